@@ -2,11 +2,10 @@ package com.tamantaw.projectx.backend.config.security;
 
 import com.tamantaw.projectx.backend.BackendApplication;
 import com.tamantaw.projectx.persistence.criteria.AdministratorCriteria;
-import com.tamantaw.projectx.persistence.criteria.RoleCriteria;
 import com.tamantaw.projectx.persistence.dto.AdministratorDTO;
-import com.tamantaw.projectx.persistence.dto.RoleDTO;
 import com.tamantaw.projectx.persistence.exception.PersistenceException;
 import com.tamantaw.projectx.persistence.service.AdministratorService;
+import com.tamantaw.projectx.persistence.service.EffectivePermissionService;
 import jakarta.annotation.Nonnull;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
@@ -17,7 +16,6 @@ import org.springframework.security.core.userdetails.UsernameNotFoundException;
 import org.springframework.stereotype.Component;
 
 import java.util.Set;
-import java.util.stream.Collectors;
 
 import static com.tamantaw.projectx.persistence.utils.LoggerConstants.*;
 
@@ -29,6 +27,9 @@ public class AuthenticationUserService implements UserDetailsService {
 	@Autowired
 	private AdministratorService administratorService;
 
+	@Autowired
+	private EffectivePermissionService effectivePermissionService;
+
 	@Override
 	@Nonnull
 	public final UserDetails loadUserByUsername(@Nonnull String loginId) throws UsernameNotFoundException {
@@ -36,12 +37,13 @@ public class AuthenticationUserService implements UserDetailsService {
 		try {
 			AdministratorCriteria adminCriteria = new AdministratorCriteria();
 			adminCriteria.setLoginId(loginId);
-			RoleCriteria roleCriteria = new RoleCriteria();
-			roleCriteria.setAppName(BackendApplication.APP_NAME);
-			adminCriteria.setRole(roleCriteria);
-			AdministratorDTO authDTO = administratorService.findOne(adminCriteria, "Administrator(administratorRoles(role))").orElseThrow(() -> new UsernameNotFoundException("Login administrator doesn`t exist !"));
-			applicationLogger.info(LOG_PREFIX + "Roles of :{} are {}" + LOG_SUFFIX, authDTO.getName(), authDTO.getRoles());
-			Set<String> roleNames = authDTO.getRoles().stream().map(RoleDTO::getName).collect(Collectors.toSet());
+			AdministratorDTO authDTO = administratorService.findOne(adminCriteria).orElseThrow(() -> new UsernameNotFoundException("Login administrator doesn`t exist !"));
+			// Role names of this app from mjr_effective_permission_mv (no role graph fetch)
+			Set<String> roleNames = effectivePermissionService.selectRoleNames(authDTO.getId(), BackendApplication.APP_NAME);
+			if (roleNames.isEmpty()) {
+				throw new UsernameNotFoundException("Login administrator doesn`t exist !");
+			}
+			applicationLogger.info(LOG_PREFIX + "Roles of :{} are {}" + LOG_SUFFIX, authDTO.getName(), roleNames);
 
 			AuthenticatedClient loggedUser = new AuthenticatedClient(authDTO, roleNames);
 			applicationLogger.info(LOG_BREAKER_CLOSE);
@@ -26,7 +26,7 @@ public class ActionApiController extends BaseRESTController {
 	@PostMapping("/search/paging")
 	public ResponseEntity<?> dataTableSearch(@RequestBody ActionCriteria criteria) throws PersistenceException {
 		criteria.setAppName(BackendApplication.APP_NAME);
-		PaginatedResult<ActionDTO> result = actionService.findByPaging(criteria);
+		PaginatedResult<ActionDTO> result = actionService.findByPaging(criteria, ActionService.DATA_TABLE_ROW);
 		return new ResponseEntity<>(result, HttpStatus.OK);
 	}
 
@@ -37,7 +37,7 @@ public class AdministratorApiController extends BaseRESTController {
 	@PostMapping("/search/paging")
 	public ResponseEntity<?> dataTableSearch(@RequestBody AdministratorCriteria criteria) throws PersistenceException {
 		criteria.setExcludeIds(Set.of(SUPER_USER_ID));
-		PaginatedResult<AdministratorDTO> result = administratorService.findByPaging(criteria);
+		PaginatedResult<AdministratorDTO> result = administratorService.findDataTablePage(criteria);
 		return new ResponseEntity<>(result, HttpStatus.OK);
 	}
 
@@ -33,7 +33,7 @@ public class RoleApiController extends BaseRESTController {
 	public ResponseEntity<?> dataTableSearch(@RequestBody RoleCriteria criteria) throws PersistenceException {
 		criteria.setAppName(BackendApplication.APP_NAME);
 		criteria.setExcludeIds(Set.of(SUPER_USER_ROLE_ID));
-		PaginatedResult<RoleDTO> result = roleService.findByPaging(criteria);
+		PaginatedResult<RoleDTO> result = roleService.findByPaging(criteria, RoleService.DATA_TABLE_ROW);
 		return new ResponseEntity<>(result, HttpStatus.OK);
 	}
 
@@ -4,9 +4,11 @@ import com.tamantaw.projectx.backend.BackendApplication;
 import com.tamantaw.projectx.backend.dto.ActionDefinition;
 import com.tamantaw.projectx.persistence.criteria.ActionCriteria;
 import com.tamantaw.projectx.persistence.dto.ActionDTO;
+import com.tamantaw.projectx.persistence.dto.RoleDTO;
 import com.tamantaw.projectx.persistence.entity.Action;
 import com.tamantaw.projectx.persistence.exception.PersistenceException;
 import com.tamantaw.projectx.persistence.service.ActionService;
+import com.tamantaw.projectx.persistence.service.EffectivePermissionService;
 import com.tamantaw.projectx.persistence.service.RoleService;
 import jakarta.annotation.PostConstruct;
 import org.jspecify.annotations.Nullable;
@@ -19,18 +21,26 @@ import java.util.Map;
 import java.util.Set;
 import java.util.stream.Collectors;
 
+import static com.tamantaw.projectx.persistence.repository.base.AbstractRepositoryImpl.IS_POSTGRES_DB;
+
 @Component
 public class ActionRegistry {
 
 	private final ActionService actionService;
 	private final RoleService roleService;
+	private final EffectivePermissionService effectivePermissionService;
 	private final PathPatternParser patternParser = new PathPatternParser();
 
 	private volatile List<ActionDefinition> actions = List.of();
 
-	public ActionRegistry(ActionService actionService, RoleService roleService) {
+	public ActionRegistry(
+			ActionService actionService,
+			RoleService roleService,
+			EffectivePermissionService effectivePermissionService
+	) {
 		this.actionService = actionService;
 		this.roleService = roleService;
+		this.effectivePermissionService = effectivePermissionService;
 	}
 
 	@PostConstruct
@@ -40,6 +50,11 @@ public class ActionRegistry {
 
 	public void reload() {
 
+		if (IS_POSTGRES_DB) {
+			reloadFromEffectivePermissions();
+			return;
+		}
+
 		ActionCriteria criteria = new ActionCriteria();
 		criteria.setAppName(BackendApplication.APP_NAME);
 
@@ -84,6 +99,35 @@ public class ActionRegistry {
 				.toList();
 	}
 
+	/**
+	 * One query on {@code mjr_effective_permission_mv}: actions with their granting role names.
+	 */
+	private void reloadFromEffectivePermissions() {
+
+		List<ActionDTO> grants;
+		try {
+			grants = effectivePermissionService.selectActionGrants(BackendApplication.APP_NAME);
+		}
+		catch (PersistenceException e) {
+			throw new RuntimeException(e);
+		}
+
+		actions = grants.stream()
+				.map(a -> new ActionDefinition(
+						a.getId(),
+						a.getAppName(),
+						a.getPage(),
+						a.getActionName(),
+						a.getDisplayName(),
+						a.getActionType(),
+						patternParser.parse(a.getUrl()),
+						a.getRoles().stream()
+								.map(RoleDTO::getName)
+								.collect(Collectors.toSet())
+				))
+				.toList();
+	}
+
 	public ActionDefinition resolve(String requestPath) {
 		return actions.stream()
 				.filter(action -> action.matches(requestPath))
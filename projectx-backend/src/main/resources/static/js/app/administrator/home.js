@@ -21,6 +21,15 @@ function initDataTable() {
     let columns = [{
         "mData": "name",
         "sClass": "text-left"
+    }, {
+        "render": function (data, type, full, meta) {
+            if (full.roleNames && full.roleNames.length > 0) {
+                return full.roleNames.join(", ");
+            }
+            return '-';
+        },
+        "bSortable": false,
+        "sClass": "text-left"
     }, {
         "render": function (data, type, full, meta) {
             if (full.status) {
@@ -79,10 +88,10 @@ function initDataTable() {
         "aaSorting": [],
         columnDefs: [{
             width: 150,
-            targets: 1
+            targets: 2
         }, {
             width: 150,
-            targets: 2
+            targets: 3
         },],
         ajax: {
             type: "POST",
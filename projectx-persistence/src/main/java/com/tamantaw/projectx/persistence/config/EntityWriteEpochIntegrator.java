@@ -0,0 +1,61 @@
+package com.tamantaw.projectx.persistence.config;
+
+import com.tamantaw.projectx.persistence.repository.base.EntityWriteEpochs;
+import org.hibernate.boot.Metadata;
+import org.hibernate.boot.spi.BootstrapContext;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.event.service.spi.EventListenerRegistry;
+import org.hibernate.event.spi.*;
+import org.hibernate.integrator.spi.Integrator;
+import org.hibernate.persister.entity.EntityPersister;
+
+/**
+ * Reports every flushed entity insert / update / delete to {@link EntityWriteEpochs}.
+ *
+ * <p>
+ * Loaded by Hibernate through {@code META-INF/services/org.hibernate.integrator.spi.Integrator}.
+ * Bulk HQL and native writes do not raise these events; repositories report them themselves.
+ * </p>
+ */
+public class EntityWriteEpochIntegrator implements Integrator {
+
+	@Override
+	public void integrate(
+			Metadata metadata,
+			BootstrapContext bootstrapContext,
+			SessionFactoryImplementor sessionFactory) {
+
+		EventListenerRegistry registry =
+				sessionFactory.getServiceRegistry().requireService(EventListenerRegistry.class);
+
+		Listener listener = new Listener();
+
+		registry.appendListeners(EventType.POST_INSERT, listener);
+		registry.appendListeners(EventType.POST_UPDATE, listener);
+		registry.appendListeners(EventType.POST_DELETE, listener);
+	}
+
+	private static final class Listener
+			implements PostInsertEventListener, PostUpdateEventListener, PostDeleteEventListener {
+
+		@Override
+		public void onPostInsert(PostInsertEvent event) {
+			EntityWriteEpochs.written(event.getPersister().getMappedClass());
+		}
+
+		@Override
+		public void onPostUpdate(PostUpdateEvent event) {
+			EntityWriteEpochs.written(event.getPersister().getMappedClass());
+		}
+
+		@Override
+		public void onPostDelete(PostDeleteEvent event) {
+			EntityWriteEpochs.written(event.getPersister().getMappedClass());
+		}
+
+		@Override
+		public boolean requiresPostCommitHandling(EntityPersister persister) {
+			return false;
+		}
+	}
+}
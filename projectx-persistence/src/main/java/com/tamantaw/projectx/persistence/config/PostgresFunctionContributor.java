@@ -0,0 +1,66 @@
+package com.tamantaw.projectx.persistence.config;
+
+import com.tamantaw.projectx.persistence.utils.IdPredicates;
+import com.tamantaw.projectx.persistence.utils.KeywordPredicates;
+import org.hibernate.boot.model.FunctionContributions;
+import org.hibernate.boot.model.FunctionContributor;
+import org.hibernate.type.BasicType;
+import org.hibernate.type.StandardBasicTypes;
+
+/**
+ * Registers PostgreSQL-specific HQL functions.
+ *
+ * <p>
+ * Loaded by Hibernate through {@code META-INF/services/org.hibernate.boot.model.FunctionContributor}.
+ * </p>
+ *
+ * <ul>
+ *   <li>{@code id_any(id, array)} → {@code (id = any(?))}</li>
+ *   <li>{@code id_not_any(id, array)} → {@code (id <> all(?))}</li>
+ *   <li>{@code id_array_overlaps(array, array)} → {@code (array && ?)}</li>
+ *   <li>{@code trgm_similarity(text, keyword)} → {@code similarity(text, ?)} (pg_trgm)</li>
+ * </ul>
+ *
+ * @see IdPredicates
+ * @see KeywordPredicates
+ */
+public class PostgresFunctionContributor implements FunctionContributor {
+
+	@Override
+	public void contributeFunctions(FunctionContributions functionContributions) {
+
+		BasicType<Boolean> booleanType = functionContributions
+				.getTypeConfiguration()
+				.getBasicTypeRegistry()
+				.resolve(StandardBasicTypes.BOOLEAN);
+
+		functionContributions.getFunctionRegistry()
+				.patternDescriptorBuilder(IdPredicates.ID_ANY, "(?1 = any(?2))")
+				.setExactArgumentCount(2)
+				.setInvariantType(booleanType)
+				.register();
+
+		functionContributions.getFunctionRegistry()
+				.patternDescriptorBuilder(IdPredicates.ID_NOT_ANY, "(?1 <> all(?2))")
+				.setExactArgumentCount(2)
+				.setInvariantType(booleanType)
+				.register();
+
+		functionContributions.getFunctionRegistry()
+				.patternDescriptorBuilder(IdPredicates.ID_ARRAY_OVERLAPS, "(?1 && ?2)")
+				.setExactArgumentCount(2)
+				.setInvariantType(booleanType)
+				.register();
+
+		BasicType<Float> floatType = functionContributions
+				.getTypeConfiguration()
+				.getBasicTypeRegistry()
+				.resolve(StandardBasicTypes.FLOAT);
+
+		functionContributions.getFunctionRegistry()
+				.patternDescriptorBuilder(KeywordPredicates.TRGM_SIMILARITY, "similarity(?1, ?2)")
+				.setExactArgumentCount(2)
+				.setInvariantType(floatType)
+				.register();
+	}
+}
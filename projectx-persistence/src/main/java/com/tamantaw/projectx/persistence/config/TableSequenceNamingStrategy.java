@@ -0,0 +1,62 @@
+package com.tamantaw.projectx.persistence.config;
+
+import org.hibernate.boot.model.naming.Identifier;
+import org.hibernate.boot.model.relational.QualifiedName;
+import org.hibernate.boot.model.relational.QualifiedNameParser;
+import org.hibernate.id.PersistentIdentifierGenerator;
+import org.hibernate.id.enhanced.ImplicitDatabaseObjectNamingStrategy;
+import org.hibernate.id.enhanced.StandardNamingStrategy;
+import org.hibernate.service.ServiceRegistry;
+
+import java.util.Map;
+
+/**
+ * Implicit sequence naming: {@code <table>_<pk column>_seq}.
+ *
+ * <p>
+ * Matches the sequences PostgreSQL creates for {@code BIGSERIAL} / identity columns
+ * ({@code mjr_role → mjr_role_id_seq}), so the existing sequences back the
+ * {@code GenerationType.SEQUENCE} ids of {@code AbstractEntity} without renaming.
+ * </p>
+ *
+ * <p>
+ * Configured via {@code hibernate.id.db_structure_naming_strategy}.
+ * Falls back to Hibernate's standard naming when the table is unknown.
+ * </p>
+ */
+public class TableSequenceNamingStrategy implements ImplicitDatabaseObjectNamingStrategy {
+
+	private final StandardNamingStrategy fallback = new StandardNamingStrategy();
+
+	@Override
+	public QualifiedName determineSequenceName(
+			Identifier catalogName,
+			Identifier schemaName,
+			Map<?, ?> configValues,
+			ServiceRegistry serviceRegistry) {
+
+		Object table = configValues.get(PersistentIdentifierGenerator.TABLE);
+		if (table == null || table.toString().isBlank()) {
+			return fallback.determineSequenceName(catalogName, schemaName, configValues, serviceRegistry);
+		}
+
+		Object pk = configValues.get(PersistentIdentifierGenerator.PK);
+		String column = (pk == null || pk.toString().isBlank()) ? "id" : pk.toString();
+
+		return new QualifiedNameParser.NameParts(
+				catalogName,
+				schemaName,
+				Identifier.toIdentifier(table + "_" + column + "_seq")
+		);
+	}
+
+	@Override
+	public QualifiedName determineTableName(
+			Identifier catalogName,
+			Identifier schemaName,
+			Map<?, ?> configValues,
+			ServiceRegistry serviceRegistry) {
+
+		return fallback.determineTableName(catalogName, schemaName, configValues, serviceRegistry);
+	}
+}
@@ -2,12 +2,14 @@ package com.tamantaw.projectx.persistence.criteria;
 
 import com.querydsl.core.BooleanBuilder;
 import com.querydsl.core.types.Predicate;
+import com.querydsl.core.types.dsl.NumberExpression;
 import com.querydsl.jpa.JPAExpressions;
 import com.tamantaw.projectx.persistence.criteria.base.AbstractCriteria;
 import com.tamantaw.projectx.persistence.entity.Action;
 import com.tamantaw.projectx.persistence.entity.QAction;
 import com.tamantaw.projectx.persistence.entity.QRole;
 import com.tamantaw.projectx.persistence.entity.QRoleAction;
+import com.tamantaw.projectx.persistence.utils.KeywordPredicates;
 import lombok.Getter;
 import lombok.Setter;
 import lombok.ToString;
@@ -68,12 +70,10 @@ public class ActionCriteria extends AbstractCriteria<QAction> {
 		// Keyword search (explicit, local responsibility)
 		if (StringUtils.isNotBlank(keyword)) {
 			predicate.and(
-					a.appName.containsIgnoreCase(keyword)
-							.or(a.page.containsIgnoreCase(keyword))
-							.or(a.actionName.containsIgnoreCase(keyword))
-							.or(a.displayName.containsIgnoreCase(keyword))
-							.or(a.url.containsIgnoreCase(keyword))
-							.or(a.description.containsIgnoreCase(keyword))
+					KeywordPredicates.matches(
+							a.searchText, keyword,
+							a.appName, a.page, a.actionName, a.displayName, a.url, a.description
+					)
 			);
 		}
 
@@ -101,6 +101,15 @@ public class ActionCriteria extends AbstractCriteria<QAction> {
 		return predicate;
 	}
 
+	// ----------------------------------------------------------------------
+	// KEYWORD RELEVANCE (sort key "relevance")
+	// ----------------------------------------------------------------------
+
+	@Override
+	protected NumberExpression<?> relevance() {
+		return KeywordPredicates.relevance(QAction.action.searchText, keyword);
+	}
+
 	// ----------------------------------------------------------------------
 	// META
 	// ----------------------------------------------------------------------
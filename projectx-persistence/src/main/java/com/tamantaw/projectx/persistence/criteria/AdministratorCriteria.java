@@ -2,16 +2,24 @@ package com.tamantaw.projectx.persistence.criteria;
 
 import com.querydsl.core.BooleanBuilder;
 import com.querydsl.core.types.Predicate;
+import com.querydsl.core.types.dsl.NumberExpression;
 import com.querydsl.jpa.JPAExpressions;
 import com.tamantaw.projectx.persistence.criteria.base.AbstractCriteria;
 import com.tamantaw.projectx.persistence.entity.Administrator;
 import com.tamantaw.projectx.persistence.entity.QAdministrator;
 import com.tamantaw.projectx.persistence.entity.QAdministratorRole;
 import com.tamantaw.projectx.persistence.entity.QRole;
+import com.tamantaw.projectx.persistence.utils.IdPredicates;
+import com.tamantaw.projectx.persistence.utils.KeywordPredicates;
 import lombok.Getter;
 import lombok.Setter;
 import lombok.ToString;
 import org.apache.commons.lang3.StringUtils;
+import org.springframework.util.CollectionUtils;
+
+import java.util.Set;
+
+import static com.tamantaw.projectx.persistence.utils.DatabaseConstants.IS_POSTGRES_DB;
 
 @Getter
 @Setter
@@ -22,6 +30,12 @@ public class AdministratorCriteria extends AbstractCriteria<QAdministrator> {
 	private String loginId;
 	private Administrator.Status status;
 
+	/**
+	 * Administrators holding ANY of these roles.
+	 * PostgreSQL: {@code role_ids && ?} on the denormalized column; otherwise EXISTS.
+	 */
+	private Set<Long> roleIds;
+
 	private RoleCriteria role;
 
 	// ----------------------------------------------------------------------
@@ -53,11 +67,29 @@ public class AdministratorCriteria extends AbstractCriteria<QAdministrator> {
 		// ---------------- KEYWORD SEARCH ----------------
 		if (StringUtils.isNotBlank(keyword)) {
 			predicate.and(
-					a.name.containsIgnoreCase(keyword)
-							.or(a.loginId.containsIgnoreCase(keyword))
+					KeywordPredicates.matches(a.searchText, keyword, a.name, a.loginId)
 			);
 		}
 
+		// ---------------- ROLE IDS (ARRAY OVERLAP) ----------------
+		if (!CollectionUtils.isEmpty(roleIds)) {
+
+			if (IS_POSTGRES_DB) {
+				predicate.and(IdPredicates.overlaps(a.roleIds, roleIds));
+			}
+			else {
+				QAdministratorRole ar = QAdministratorRole.administratorRole;
+
+				predicate.and(
+						JPAExpressions
+								.selectOne()
+								.from(ar)
+								.where(ar.administratorId.eq(a.id).and(ar.roleId.in(roleIds)))
+								.exists()
+				);
+			}
+		}
+
 		// ---------------- ROLE FILTER (EXISTS) ----------------
 		if (role != null) {
 
@@ -82,6 +114,15 @@ public class AdministratorCriteria extends AbstractCriteria<QAdministrator> {
 		return predicate;
 	}
 
+	// ----------------------------------------------------------------------
+	// KEYWORD RELEVANCE (sort key "relevance")
+	// ----------------------------------------------------------------------
+
+	@Override
+	protected NumberExpression<?> relevance() {
+		return KeywordPredicates.relevance(QAdministrator.administrator.searchText, keyword);
+	}
+
 	// ----------------------------------------------------------------------
 	// META
 	// ----------------------------------------------------------------------
@@ -2,9 +2,11 @@ package com.tamantaw.projectx.persistence.criteria;
 
 import com.querydsl.core.BooleanBuilder;
 import com.querydsl.core.types.Predicate;
+import com.querydsl.core.types.dsl.NumberExpression;
 import com.querydsl.jpa.JPAExpressions;
 import com.tamantaw.projectx.persistence.criteria.base.AbstractCriteria;
 import com.tamantaw.projectx.persistence.entity.*;
+import com.tamantaw.projectx.persistence.utils.KeywordPredicates;
 import lombok.Getter;
 import lombok.Setter;
 import lombok.ToString;
@@ -53,9 +55,7 @@ public class RoleCriteria extends AbstractCriteria<QRole> {
 		// --------------------------------------------------------------
 		if (StringUtils.isNotBlank(keyword)) {
 			predicate.and(
-					r.appName.containsIgnoreCase(keyword)
-							.or(r.name.containsIgnoreCase(keyword))
-							.or(r.description.containsIgnoreCase(keyword))
+					KeywordPredicates.matches(r.searchText, keyword, r.appName, r.name, r.description)
 			);
 		}
 
@@ -108,6 +108,15 @@ public class RoleCriteria extends AbstractCriteria<QRole> {
 		return predicate;
 	}
 
+	// ----------------------------------------------------------------------
+	// KEYWORD RELEVANCE (sort key "relevance")
+	// ----------------------------------------------------------------------
+
+	@Override
+	protected NumberExpression<?> relevance() {
+		return KeywordPredicates.relevance(QRole.role.searchText, keyword);
+	}
+
 	// ----------------------------------------------------------------------
 	// META
 	// ----------------------------------------------------------------------
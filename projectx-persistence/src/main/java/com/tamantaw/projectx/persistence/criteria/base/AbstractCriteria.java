@@ -7,8 +7,12 @@ import com.querydsl.core.types.Path;
 import com.querydsl.core.types.Predicate;
 import com.querydsl.core.types.dsl.ComparableExpressionBase;
 import com.querydsl.core.types.dsl.EntityPathBase;
+import com.querydsl.core.types.dsl.NumberExpression;
 import com.querydsl.core.types.dsl.PathBuilder;
 import com.tamantaw.projectx.persistence.entity.base.QAbstractEntity;
+import com.tamantaw.projectx.persistence.utils.IdPredicates;
+import com.tamantaw.projectx.persistence.utils.KeywordPredicates;
+import com.tamantaw.projectx.persistence.utils.SortKeyRegistry;
 import lombok.Data;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
@@ -30,6 +34,7 @@ public abstract class AbstractCriteria<A extends EntityPathBase<?>> {
 
 	protected static final int DEFAULT_PAGE_SIZE = 20;
 	protected static final int DEFAULT_MAX_ROWS = 100;
+	protected static final long DEFAULT_COUNT_CAP = 1000;
 
 	// ----------------------------------------------------------------------
 	// COMMON FILTER FIELDS
@@ -66,6 +71,35 @@ public abstract class AbstractCriteria<A extends EntityPathBase<?>> {
 	// PAGING INPUTS
 	// ----------------------------------------------------------------------
 	protected Integer limit;
+	/**
+	 * Paging strategy used by findByPaging. {@code null} means {@link PagingMode#OFFSET}.
+	 */
+	protected PagingMode pagingMode;
+	/**
+	 * KEYSET mode only: opaque cursor from a previous page
+	 * ({@code PaginatedResult.nextCursor} / {@code previousCursor}).
+	 * {@code null} requests the first page. pageNumber / offset are ignored.
+	 */
+	protected String cursor;
+	/**
+	 * SNAPSHOT mode only: token from a previous page ({@code PaginatedResult.searchToken}).
+	 * {@code null}, expired, or issued for another filter / sort → a new snapshot is taken.
+	 */
+	protected String searchToken;
+	/**
+	 * How findByPaging computes the total. {@code null} means {@link CountMode#EXACT}.
+	 */
+	protected CountMode countMode;
+	/**
+	 * CAPPED (and filtered ESTIMATE) only: count at most this many rows.
+	 * {@code null} means {@link #DEFAULT_COUNT_CAP}.
+	 */
+	protected Long countCap;
+	/**
+	 * EXACT count mode only: run the count on its own read-only connection,
+	 * concurrently with the page query. {@code null} means serial.
+	 */
+	protected Boolean parallelCount;
 	private Long id;
 
 	// ----------------------------------------------------------------------
@@ -98,10 +132,10 @@ public abstract class AbstractCriteria<A extends EntityPathBase<?>> {
 			predicate.and(audit.updatedDate.loe(updatedDateTo));
 		}
 		if (!CollectionUtils.isEmpty(includeIds)) {
-			predicate.and(audit.id.in(includeIds));
+			predicate.and(IdPredicates.in(audit.id, includeIds));
 		}
 		if (!CollectionUtils.isEmpty(excludeIds)) {
-			predicate.and(audit.id.notIn(excludeIds));
+			predicate.and(IdPredicates.notIn(audit.id, excludeIds));
 		}
 
 		return predicate;
@@ -203,6 +237,71 @@ public abstract class AbstractCriteria<A extends EntityPathBase<?>> {
 		);
 	}
 
+	/**
+	 * Same precedence as {@link #resolveOrderSpecifiers(EntityPathBase)}, but string keys
+	 * are looked up in the repository's pre-validated {@link SortKeyRegistry}
+	 * (unknown keys fail fast instead of reaching the query).
+	 */
+	public List<OrderSpecifier<?>> resolveOrderSpecifiers(SortKeyRegistry registry) {
+
+		if (!CollectionUtils.isEmpty(orderSpecifiers)) {
+			return List.copyOf(orderSpecifiers);
+		}
+
+		if (!CollectionUtils.isEmpty(sortKeys)
+				&& !CollectionUtils.isEmpty(sortDirs)
+				&& sortKeys.size() == sortDirs.size()) {
+
+			List<OrderSpecifier<?>> orders = new ArrayList<>(sortKeys.size());
+
+			for (int i = 0; i < sortKeys.size(); i++) {
+
+				String key = sortKeys.get(i);
+				Sort.Direction dir = sortDirs.get(i);
+
+				orders.add(
+						KeywordPredicates.RELEVANCE_SORT_KEY.equals(key)
+								? relevanceOrder(dir)
+								: registry.resolve(key, dir)
+				);
+			}
+
+			return orders;
+		}
+
+		return List.of(registry.resolve("id", Sort.Direction.DESC));
+	}
+
+	/**
+	 * Keyword relevance expression for the {@code "relevance"} sort key
+	 * ({@link KeywordPredicates#relevance}); {@code null} = not supported.
+	 */
+	protected NumberExpression<?> relevance() {
+		return null;
+	}
+
+	private OrderSpecifier<?> relevanceOrder(Sort.Direction dir) {
+
+		NumberExpression<?> relevance = relevance();
+
+		if (relevance == null) {
+			throw new IllegalArgumentException(
+					"Sort key '" + KeywordPredicates.RELEVANCE_SORT_KEY
+							+ "' requires a keyword (PostgreSQL keyword search) for " + getClass().getSimpleName()
+			);
+		}
+
+		return new OrderSpecifier<>(dir.isAscending() ? Order.ASC : Order.DESC, relevance);
+	}
+
+	/**
+	 * @return true if the order comes from Java-side {@link #orderSpecifiers}
+	 * (not pre-validated by a {@link SortKeyRegistry})
+	 */
+	public boolean hasExplicitOrderSpecifiers() {
+		return !CollectionUtils.isEmpty(orderSpecifiers);
+	}
+
 	/**
 	 * Resolves a string sort key into a ComparableExpression.
 	 * <p>
@@ -282,6 +381,11 @@ public abstract class AbstractCriteria<A extends EntityPathBase<?>> {
 
 	public Pageable toPageable() {
 
+		// Keyset pages are positioned by cursor, never by offset
+		if (isKeysetPaging()) {
+			return PageRequest.of(0, resolveLimit());
+		}
+
 		if (pageNumber == null && offset == null) {
 			return null;
 		}
@@ -297,6 +401,26 @@ public abstract class AbstractCriteria<A extends EntityPathBase<?>> {
 		return PageRequest.of(pageIndex, resolvedLimit);
 	}
 
+	public boolean isKeysetPaging() {
+		return pagingMode == PagingMode.KEYSET;
+	}
+
+	public boolean isSnapshotPaging() {
+		return pagingMode == PagingMode.SNAPSHOT;
+	}
+
+	public CountMode resolveCountMode() {
+		return countMode == null ? CountMode.EXACT : countMode;
+	}
+
+	public long resolveCountCap() {
+		return (countCap == null || countCap <= 0) ? DEFAULT_COUNT_CAP : countCap;
+	}
+
+	public boolean resolveParallelCount() {
+		return Boolean.TRUE.equals(parallelCount);
+	}
+
 	protected Integer resolveLimit() {
 
 		if (limit == null || limit <= 0) {
@@ -328,4 +452,41 @@ public abstract class AbstractCriteria<A extends EntityPathBase<?>> {
 	public abstract Predicate getFilter();
 
 	public abstract Class<?> getObjectClass();
+
+	// ----------------------------------------------------------------------
+	// PAGING MODES
+	// ----------------------------------------------------------------------
+
+	public enum PagingMode {
+		/**
+		 * OFFSET / LIMIT (default). Random page access, cost grows with page depth.
+		 */
+		OFFSET,
+		/**
+		 * Seek past an opaque cursor. Constant cost per page, next/previous navigation only.
+		 */
+		KEYSET,
+		/**
+		 * Ordered ID list materialized once per search ({@code searchToken}), pages served
+		 * from it by ID. Stable total and constant cost per page; rows reflect the snapshot.
+		 */
+		SNAPSHOT
+	}
+
+	public enum CountMode {
+		/**
+		 * Exact {@code count(*)} of the filtered set (default).
+		 */
+		EXACT,
+		/**
+		 * Count up to {@code countCap + 1} rows in SQL. Beyond the cap the total is
+		 * {@code max(offset + page size, cap + 1)}, not exact ("at least").
+		 */
+		CAPPED,
+		/**
+		 * Planner estimate ({@code pg_class.reltuples}) for unfiltered reads only.
+		 * Filtered reads get the CAPPED total, not a planner ({@code EXPLAIN}) estimate.
+		 */
+		ESTIMATE
+	}
 }
@@ -8,6 +8,7 @@ import lombok.Setter;
 import lombok.ToString;
 import org.springframework.util.CollectionUtils;
 
+import java.util.List;
 import java.util.Set;
 import java.util.stream.Collectors;
 
@@ -28,6 +29,11 @@ public class AdministratorDTO extends AbstractDTO {
 
 	private Set<Long> roleIds;
 
+	/**
+	 * List screens only ({@code AdministratorService.findDataTablePage}); {@code null} otherwise.
+	 */
+	private List<String> roleNames;
+
 	public Set<Long> getRoleIds() {
 		if (roleIds != null) {
 			return roleIds;
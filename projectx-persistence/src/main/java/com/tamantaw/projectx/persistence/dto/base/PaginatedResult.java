@@ -9,9 +9,13 @@ import java.io.Serial;
 import java.io.Serializable;
 import java.util.List;
 
+/**
+ * Page envelope for the API layer. {@code DTO} is normally an {@link AbstractDTO};
+ * projected reads may page any row type.
+ */
 @Data
 @AllArgsConstructor
-public class PaginatedResult<DTO extends AbstractDTO> implements Serializable {
+public class PaginatedResult<DTO> implements Serializable {
 
 	@Serial
 	private static final long serialVersionUID = -112619740430072473L;
@@ -26,4 +30,35 @@ public class PaginatedResult<DTO extends AbstractDTO> implements Serializable {
 
 	@ToString.Exclude
 	private List<DTO> data;
+
+	/**
+	 * KEYSET paging only: opaque cursors for the neighbouring pages
+	 * ({@code null} when there is no such page or the request was offset-based).
+	 */
+	private String nextCursor;
+	private String previousCursor;
+
+	/**
+	 * SNAPSHOT paging only: pass back as {@code criteria.searchToken} for the next pages.
+	 */
+	private String searchToken;
+
+	/**
+	 * {@code false} when recordsTotal / recordsFiltered are capped or estimated
+	 * ({@code AbstractCriteria.CountMode} CAPPED / ESTIMATE).
+	 */
+	private boolean totalExact;
+
+	public PaginatedResult(
+			long recordsTotal,
+			long recordsFiltered,
+			long totalPages,
+			int size,
+			int number,
+			int numberOfElements,
+			Sort sort,
+			List<DTO> data) {
+
+		this(recordsTotal, recordsFiltered, totalPages, size, number, numberOfElements, sort, data, null, null, null, true);
+	}
 }
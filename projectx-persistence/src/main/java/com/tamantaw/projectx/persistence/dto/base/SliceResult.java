@@ -0,0 +1,30 @@
+package com.tamantaw.projectx.persistence.dto.base;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.ToString;
+import org.springframework.data.domain.Sort;
+
+import java.io.Serial;
+import java.io.Serializable;
+import java.util.List;
+
+/**
+ * Page without totals (infinite scroll): only {@code hasNext} is known.
+ */
+@Data
+@AllArgsConstructor
+public class SliceResult<DTO extends AbstractDTO> implements Serializable {
+
+	@Serial
+	private static final long serialVersionUID = 4720915386618124305L;
+
+	private int size;
+	private int number;
+	private int numberOfElements;
+	private boolean hasNext;
+	private Sort sort;
+
+	@ToString.Exclude
+	private List<DTO> data;
+}
@@ -4,6 +4,7 @@ import com.tamantaw.projectx.persistence.entity.base.AbstractEntity;
 import jakarta.persistence.*;
 import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.NotNull;
+import lombok.AccessLevel;
 import lombok.Getter;
 import lombok.Setter;
 import lombok.ToString;
@@ -15,7 +16,14 @@ import java.util.HashSet;
 import java.util.Set;
 
 @Entity
-@Table(name = "mjr_action")
+@Table(
+		name = "mjr_action",
+		uniqueConstraints = {
+				@UniqueConstraint(name = "uq_mjr_action_app_url", columnNames = {"app_name", "url"}),
+				@UniqueConstraint(name = "uq_mjr_action_app_action", columnNames = {"app_name", "action_name"}),
+				@UniqueConstraint(name = "uq_mjr_action_page_action", columnNames = {"page", "action_name"})
+		}
+)
 @Getter
 @Setter
 @ToString(callSuper = true)
@@ -58,6 +66,14 @@ public class Action extends AbstractEntity implements Serializable {
 	@Column(name = "description", nullable = false)
 	private String description;
 
+	/**
+	 * Generated, lower-cased keyword column (V1_5, trigram indexed). Read-only; query use only.
+	 */
+	@Column(name = "search_text", columnDefinition = "text", insertable = false, updatable = false)
+	@Setter(AccessLevel.NONE)
+	@ToString.Exclude
+	private String searchText;
+
 	@OneToMany(mappedBy = "action", cascade = CascadeType.ALL, orphanRemoval = true)
 	@ToString.Exclude
 	private Set<RoleAction> roleActions = new HashSet<>();
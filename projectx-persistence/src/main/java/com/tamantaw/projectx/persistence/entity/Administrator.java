@@ -4,6 +4,7 @@ import com.tamantaw.projectx.persistence.entity.base.AbstractEntity;
 import jakarta.persistence.*;
 import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.NotNull;
+import lombok.AccessLevel;
 import lombok.Getter;
 import lombok.Setter;
 import lombok.ToString;
@@ -52,6 +53,24 @@ public class Administrator extends AbstractEntity implements Serializable {
 	@Column(name = "status", nullable = false, length = 20)
 	private Status status = Status.ACTIVE;
 
+	/**
+	 * Generated, lower-cased keyword column (V1_5, trigram indexed). Read-only; query use only.
+	 */
+	@Column(name = "search_text", columnDefinition = "text", insertable = false, updatable = false)
+	@Setter(AccessLevel.NONE)
+	@ToString.Exclude
+	private String searchText;
+
+	/**
+	 * Sorted role ids mirrored from {@code mjr_admin_x_role} (V1_6, GIN indexed).
+	 * Maintained by the {@code mjr_admin_x_role} trigger at flush; may be stale in memory
+	 * after link changes in the same persistence context. Query use only.
+	 */
+	@Column(name = "role_ids", columnDefinition = "bigint[]", insertable = false, updatable = false)
+	@Setter(AccessLevel.NONE)
+	@ToString.Exclude
+	private Long[] roleIds;
+
 	@OneToMany(mappedBy = "administrator", cascade = CascadeType.ALL, orphanRemoval = true)
 	@ToString.Exclude
 	private Set<AdministratorRole> administratorRoles = new HashSet<>();
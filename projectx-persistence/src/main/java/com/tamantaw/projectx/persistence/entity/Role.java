@@ -5,6 +5,7 @@ import com.tamantaw.projectx.persistence.entity.base.AbstractEntity;
 import jakarta.persistence.*;
 import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.NotNull;
+import lombok.AccessLevel;
 import lombok.Getter;
 import lombok.Setter;
 import lombok.ToString;
@@ -43,6 +44,14 @@ public class Role extends AbstractEntity implements Serializable {
 	@Column(name = "description")
 	private String description;
 
+	/**
+	 * Generated, lower-cased keyword column (V1_5, trigram indexed). Read-only; query use only.
+	 */
+	@Column(name = "search_text", columnDefinition = "text", insertable = false, updatable = false)
+	@Setter(AccessLevel.NONE)
+	@ToString.Exclude
+	private String searchText;
+
 	@OneToMany(mappedBy = "role", cascade = CascadeType.ALL, orphanRemoval = true)
 	@ToString.Exclude
 	private Set<RoleAction> roleActions = new HashSet<>();
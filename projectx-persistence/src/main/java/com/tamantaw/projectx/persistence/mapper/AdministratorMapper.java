@@ -32,6 +32,7 @@ public interface AdministratorMapper
 
 	@Override
 	@Mapping(target = "roles", ignore = true)
+	@Mapping(target = "roleIds", ignore = true) // denormalized column, not the relation
 	AdministratorDTO toDto(Administrator entity, @Context MappingContext ctx);
 
 	// ----------------------------------------------------------------------
@@ -2,8 +2,11 @@ package com.tamantaw.projectx.persistence.repository;
 
 import com.tamantaw.projectx.persistence.criteria.AdministratorCriteria;
 import com.tamantaw.projectx.persistence.entity.Administrator;
+import com.tamantaw.projectx.persistence.entity.AdministratorRole;
 import com.tamantaw.projectx.persistence.entity.QAdministrator;
+import com.tamantaw.projectx.persistence.entity.Role;
 import com.tamantaw.projectx.persistence.repository.base.AbstractRepositoryImpl;
+import com.tamantaw.projectx.persistence.repository.base.EntityWriteEpochs;
 import jakarta.annotation.PostConstruct;
 import jakarta.persistence.EntityManager;
 import jakarta.persistence.PersistenceContext;
@@ -30,6 +33,9 @@ public class AdministratorRepository
 	@PostConstruct
 	public void init() {
 		initialize(entityManager);
+
+		// mjr_admin.role_ids is rewritten by the mjr_admin_x_role trigger (V1_6),
+		// also when role deletes cascade to the link table
+		EntityWriteEpochs.derives(Administrator.class, AdministratorRole.class, Role.class);
 	}
 }
-
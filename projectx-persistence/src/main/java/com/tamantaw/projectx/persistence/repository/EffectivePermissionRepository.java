@@ -0,0 +1,164 @@
+package com.tamantaw.projectx.persistence.repository;
+
+import com.querydsl.core.Tuple;
+import com.querydsl.jpa.impl.JPAQueryFactory;
+import com.tamantaw.projectx.persistence.view.QEffectivePermission;
+import jakarta.annotation.PostConstruct;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.List;
+
+import static com.tamantaw.projectx.persistence.config.PrimaryPersistenceContext.EM_FACTORY;
+import static com.tamantaw.projectx.persistence.repository.base.AbstractRepositoryImpl.IS_POSTGRES_DB;
+
+/**
+ * Reads and refreshes {@code mjr_effective_permission_mv} (V1_7).
+ *
+ * <p>
+ * <b>STRICT:</b> every RBAC write (action / role / role-action / administrator-role /
+ * administrator delete) must call {@link #refreshBeforeCommit()} in its transaction,
+ * otherwise login and the action registry keep reading the old grants.
+ * </p>
+ */
+@Repository
+public class EffectivePermissionRepository {
+
+	private static final String REFRESH_SQL =
+			"REFRESH MATERIALIZED VIEW CONCURRENTLY mjr_effective_permission_mv";
+
+	/**
+	 * Transaction resource key: refresh already scheduled for the current transaction.
+	 */
+	private static final Object REFRESH_KEY = new Object();
+
+	private static final QEffectivePermission ep = QEffectivePermission.effectivePermission;
+
+	@PersistenceContext(unitName = EM_FACTORY)
+	private EntityManager entityManager;
+
+	private JPAQueryFactory queryFactory;
+
+	@PostConstruct
+	public void init() {
+		queryFactory = new JPAQueryFactory(entityManager);
+	}
+
+	// ----------------------------------------------------------------------
+	// READ
+	// ----------------------------------------------------------------------
+
+	/**
+	 * Distinct (action, granting role) rows of one application, newest action first
+	 * (same order as the default {@code ActionCriteria} listing).
+	 *
+	 * <p>
+	 * Actions granted to no role come back once with a {@code null} role name.
+	 * Roles of other applications are NOT filtered here (the action row must survive).
+	 * </p>
+	 */
+	public List<Tuple> selectActionGrants(String appName) {
+
+		assertPostgres("selectActionGrants");
+
+		return queryFactory
+				.select(
+						ep.actionId,
+						ep.page,
+						ep.actionName,
+						ep.displayName,
+						ep.actionType,
+						ep.url,
+						ep.roleName,
+						ep.roleAppName
+				)
+				.distinct()
+				.from(ep)
+				.where(ep.appName.eq(appName))
+				.orderBy(ep.actionId.desc())
+				.fetch();
+	}
+
+	/**
+	 * Names of the roles of {@code appName} held by one administrator
+	 * (index {@code idx_mjr_effective_permission_mv_admin}).
+	 */
+	public List<String> selectRoleNames(long administratorId, String appName) {
+
+		assertPostgres("selectRoleNames");
+
+		return queryFactory
+				.select(ep.roleName)
+				.distinct()
+				.from(ep)
+				.where(
+						ep.adminId.eq(administratorId),
+						ep.roleAppName.eq(appName)
+				)
+				.fetch();
+	}
+
+	// ----------------------------------------------------------------------
+	// REFRESH
+	// ----------------------------------------------------------------------
+
+	/**
+	 * Schedules one {@code REFRESH ... CONCURRENTLY} right before the current transaction
+	 * commits (repeated calls in the same transaction refresh once).
+	 *
+	 * <p>
+	 * The refresh runs inside the writing transaction, so the view commits together with
+	 * the base tables; readers are not blocked while it recomputes.
+	 * Outside a transaction the view is refreshed immediately. No-op when not on PostgreSQL.
+	 * </p>
+	 */
+	public void refreshBeforeCommit() {
+
+		if (!IS_POSTGRES_DB) {
+			return;
+		}
+
+		if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+			refresh();
+			return;
+		}
+
+		if (TransactionSynchronizationManager.hasResource(REFRESH_KEY)) {
+			return;
+		}
+
+		TransactionSynchronizationManager.bindResource(REFRESH_KEY, Boolean.TRUE);
+		TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+			@Override
+			public void beforeCommit(boolean readOnly) {
+				refresh();
+			}
+
+			@Override
+			public void afterCompletion(int status) {
+				TransactionSynchronizationManager.unbindResourceIfPossible(REFRESH_KEY);
+			}
+		});
+	}
+
+	/**
+	 * Flushes pending RBAC changes and recomputes the view now.
+	 */
+	public void refresh() {
+
+		assertPostgres("refresh");
+
+		entityManager.flush();
+		entityManager.createNativeQuery(REFRESH_SQL).executeUpdate();
+	}
+
+	private static void assertPostgres(String op) {
+		if (!IS_POSTGRES_DB) {
+			throw new IllegalStateException(
+					"EffectivePermissionRepository." + op + " requires PostgreSQL (IS_POSTGRES_DB = true).");
+		}
+	}
+}
@@ -1,14 +1,23 @@
 package com.tamantaw.projectx.persistence.repository;
 
+import com.querydsl.core.Tuple;
 import com.tamantaw.projectx.persistence.criteria.RoleCriteria;
+import com.tamantaw.projectx.persistence.entity.QAction;
 import com.tamantaw.projectx.persistence.entity.QRole;
+import com.tamantaw.projectx.persistence.entity.QRoleAction;
 import com.tamantaw.projectx.persistence.entity.Role;
 import com.tamantaw.projectx.persistence.repository.base.AbstractRepositoryImpl;
+import com.tamantaw.projectx.persistence.utils.IdPredicates;
+import com.tamantaw.projectx.persistence.utils.LongObjectHashMap;
 import jakarta.annotation.PostConstruct;
 import jakarta.persistence.EntityManager;
 import jakarta.persistence.PersistenceContext;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.Set;
+
 import static com.tamantaw.projectx.persistence.config.PrimaryPersistenceContext.EM_FACTORY;
 
 @Repository
@@ -33,4 +42,47 @@ public class RoleRepository
 	public void init() {
 		initialize(entityManager);
 	}
+
+	/**
+	 * Role names per action ID, both role and action restricted to {@code appName}.
+	 *
+	 * <p>
+	 * Tuple projection over {@code mjr_role_x_action}: selects {@code (action_id, role.name)}
+	 * only, so no {@code Role} / {@code RoleAction} is hydrated or snapshotted, and rows are
+	 * grouped straight into a primitive-keyed map. Actions granted to no role are absent.
+	 * </p>
+	 */
+	public LongObjectHashMap<Set<String>> selectRoleNamesByActionIds(Collection<Long> actionIds, String appName) {
+
+		assertInitialized();
+
+		QRoleAction ra = QRoleAction.roleAction;
+		QRole r = new QRole("r");
+		QAction a = new QAction("a");
+
+		LongObjectHashMap<Set<String>> roleNamesByActionId = new LongObjectHashMap<>(actionIds.size());
+
+		if (actionIds.isEmpty()) {
+			return roleNamesByActionId;
+		}
+
+		for (Tuple row : queryFactory
+				.select(ra.actionId, r.name)
+				.from(ra)
+				.join(ra.role, r)
+				.join(ra.action, a)
+				.where(
+						IdPredicates.in(ra.actionId, actionIds),
+						r.appName.eq(appName),
+						a.appName.eq(appName)
+				)
+				.fetch()) {
+
+			roleNamesByActionId
+					.computeIfAbsent(row.get(ra.actionId), id -> new HashSet<>())
+					.add(row.get(r.name));
+		}
+
+		return roleNamesByActionId;
+	}
 }
@@ -3,11 +3,17 @@ package com.tamantaw.projectx.persistence.repository.base;
 import com.querydsl.core.types.dsl.EntityPathBase;
 import com.tamantaw.projectx.persistence.criteria.base.AbstractCriteria;
 import com.tamantaw.projectx.persistence.entity.base.AbstractEntity;
+import com.tamantaw.projectx.persistence.utils.LongIdList;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Slice;
 
 import java.io.Serializable;
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
 
 public interface AbstractRepository<
 		ID extends Serializable & Comparable<ID>,
@@ -25,13 +31,77 @@ public interface AbstractRepository<
 
 	List<ENTITY> findAll(CRITERIA criteria, String... hints);
 
+	/**
+	 * Paged read.
+	 *
+	 * <p>
+	 * OFFSET mode returns a regular page. KEYSET mode
+	 * ({@code criteria.pagingMode = KEYSET}) returns a {@link RepositoryPage}
+	 * carrying the next / previous cursors.
+	 * </p>
+	 */
 	Page<ENTITY> findByPaging(CRITERIA criteria, String... hints);
 
+	/**
+	 * OFFSET page without a total (infinite scroll).
+	 *
+	 * <p>
+	 * Reads {@code pageSize + 1} rows and reports {@code hasNext} from the
+	 * extra one; no COUNT is ever issued. {@code criteria.countMode} is ignored.
+	 * </p>
+	 */
+	Slice<ENTITY> findSlice(CRITERIA criteria, String... hints);
+
+	// ------------------------------
+	// PROJECTED READS (no entity hydration)
+	// ------------------------------
+
+	/**
+	 * OFFSET page of projected rows. Same filter, sort validation, ID tiebreaker
+	 * and count modes as {@link #findByPaging(AbstractCriteria, String...)}.
+	 */
+	<T> Page<T> findByPaging(CRITERIA criteria, Projection<T> projection);
+
+	/**
+	 * All matching rows, projected. Paging is not allowed (same rule as {@link #findAll}).
+	 */
+	<T> List<T> findAll(CRITERIA criteria, Projection<T> projection);
+
+	/**
+	 * To-many labels for an already resolved page of root IDs, in one grouped query.
+	 * Values are ordered; roots without rows are absent from the map.
+	 */
+	<V> Map<ID, List<V>> aggregateByIds(Collection<ID> ids, ToManyAggregate<V> aggregate);
+
+	// ------------------------------
+	// STREAMING READS (constant heap)
+	// ------------------------------
+
+	/**
+	 * Feeds all matching entities to {@code action} in ordered chunks of at most {@code chunkSize}.
+	 * Each chunk is detached before the next one is loaded.
+	 *
+	 * @return number of entities processed
+	 */
+	long forEachChunk(CRITERIA criteria, int chunkSize, Consumer<List<ENTITY>> action, String... hints);
+
+	/**
+	 * Lazy ordered stream of all matching entities, loaded {@code chunkSize} at a time.
+	 * The stream holds an open cursor and must be closed.
+	 */
+	Stream<ENTITY> stream(CRITERIA criteria, int chunkSize, String... hints);
+
 	// ------------------------------
 	// ID-BASED READS (safe)
 	// ------------------------------
 	List<ID> findIds(CRITERIA criteria);
 
+	/**
+	 * {@link #findIds} into a primitive list (no boxed IDs retained).
+	 * {@code Long}-keyed entities only.
+	 */
+	LongIdList findLongIds(CRITERIA criteria);
+
 	long count(CRITERIA criteria);
 
 	boolean exists(CRITERIA criteria);
@@ -43,6 +113,21 @@ public interface AbstractRepository<
 
 	List<ENTITY> saveAllRecords(Iterable<ENTITY> entities);
 
+	/**
+	 * PostgreSQL {@code COPY} bulk insert (seeding / imports).
+	 * Entities are not managed afterwards; relations are not cascaded.
+	 *
+	 * @return number of inserted rows
+	 */
+	long copyInsert(Iterable<? extends ENTITY> entities, long createdBy);
+
+	/**
+	 * Batched PostgreSQL {@code INSERT ... ON CONFLICT ON CONSTRAINT} keyed on a declared unique constraint.
+	 *
+	 * @return rows inserted or updated
+	 */
+	long upsert(Iterable<? extends ENTITY> entities, UpsertSpec spec, long actorId);
+
 	long updateById(UpdateSpec<ENTITY> spec, ID id, long updatedBy);
 
 	<E extends ENTITY> long updateByCriteria(UpdateSpec<E> spec, CRITERIA criteria, Long updatedBy);
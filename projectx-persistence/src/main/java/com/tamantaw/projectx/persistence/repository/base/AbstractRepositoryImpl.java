@@ -1,35 +1,73 @@
 package com.tamantaw.projectx.persistence.repository.base;
 
+import com.querydsl.core.BooleanBuilder;
 import com.querydsl.core.JoinExpression;
+import com.querydsl.core.QueryMetadata;
+import com.querydsl.core.Tuple;
 import com.querydsl.core.types.*;
 import com.querydsl.core.types.dsl.*;
+import com.querydsl.jpa.JPAExpressions;
+import com.querydsl.jpa.JPAProvider;
+import com.querydsl.jpa.JPQLSerializer;
 import com.querydsl.jpa.JPQLQuery;
 import com.querydsl.jpa.impl.AbstractJPAQuery;
+import com.querydsl.jpa.impl.JPAUtil;
 import com.querydsl.jpa.impl.JPAQueryFactory;
 import com.querydsl.jpa.impl.JPAUpdateClause;
 import com.tamantaw.projectx.persistence.criteria.base.AbstractCriteria;
 import com.tamantaw.projectx.persistence.entity.base.AbstractEntity;
 import com.tamantaw.projectx.persistence.entity.base.QAbstractEntity;
+import com.tamantaw.projectx.persistence.utils.DatabaseConstants;
+import com.tamantaw.projectx.persistence.utils.IdPredicates;
+import com.tamantaw.projectx.persistence.utils.LongHashSet;
+import com.tamantaw.projectx.persistence.utils.LongIdList;
+import com.tamantaw.projectx.persistence.utils.LongIndexMap;
+import com.tamantaw.projectx.persistence.utils.SortKeyRegistry;
 import jakarta.annotation.Nonnull;
 import jakarta.persistence.EntityGraph;
 import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityTransaction;
+import jakarta.persistence.Query;
+import jakarta.persistence.Table;
+import jakarta.persistence.UniqueConstraint;
 import jakarta.persistence.Subgraph;
 import jakarta.persistence.metamodel.*;
 import org.apache.commons.lang3.ArrayUtils;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
+import org.hibernate.Session;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.hibernate.jpa.event.spi.CallbackRegistry;
+import org.hibernate.persister.entity.AbstractEntityPersister;
+import org.hibernate.persister.entity.EntityPersister;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
 import org.springframework.data.jpa.repository.support.*;
 import org.springframework.data.querydsl.EntityPathResolver;
 import org.springframework.data.querydsl.SimpleEntityPathResolver;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 import org.springframework.util.Assert;
 
 import java.io.Serializable;
 import java.lang.reflect.Field;
+import java.time.Duration;
 import java.time.LocalDateTime;
 import java.util.*;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.Semaphore;
+import java.util.function.Consumer;
+import java.util.function.ToLongFunction;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 
 /**
  * Base JPA repository implementation with:
@@ -101,12 +139,44 @@ public abstract class AbstractRepositoryImpl<
 	 * ⚠️ Changing this flag affects SQL generation and must be reviewed
 	 * together with DB choice and indexing strategy.
 	 * </p>
+	 *
+	 * <p>
+	 * Set in {@link DatabaseConstants#IS_POSTGRES_DB} (shared with criteria and predicate helpers).
+	 * </p>
 	 */
-	public static final boolean IS_POSTGRES_DB = true;
+	public static final boolean IS_POSTGRES_DB = DatabaseConstants.IS_POSTGRES_DB;
 
 	private static final EntityPathResolver PATH_RESOLVER =
 			SimpleEntityPathResolver.INSTANCE;
 
+	/**
+	 * Filtered total computed by the page query itself (evaluated before OFFSET / LIMIT).
+	 */
+	private static final NumberExpression<Long> WINDOW_TOTAL =
+			Expressions.numberTemplate(Long.class, "count(*) over()");
+
+	private static final int MAX_CACHED_FETCH_GRAPH_PLANS = 256;
+
+	private static final String HINT_FETCH_SIZE = "org.hibernate.fetchSize";
+
+	private static final String JDBC_FETCH_SIZE_PROPERTY = "hibernate.jdbc.fetch_size";
+
+	private static final int DEFAULT_STREAM_FETCH_SIZE = 50;
+
+	/**
+	 * Upper bound on concurrently running parallel counts (all repositories).
+	 * Each one holds a pooled connection; when exhausted, counts run serially
+	 * instead of queueing behind the request threads that wait for them.
+	 */
+	private static final int MAX_PARALLEL_COUNTS = 8;
+
+	private static final int MAX_CACHED_COUNTS = 1024;
+
+	private static final Semaphore PARALLEL_COUNT_PERMITS = new Semaphore(MAX_PARALLEL_COUNTS);
+
+	private static final ExecutorService PARALLEL_COUNT_EXECUTOR =
+			Executors.newThreadPerTaskExecutor(Thread.ofVirtual().name("repository-count-", 0).factory());
+
 	private static final Logger logger =
 			LogManager.getLogger("repositoryLogs." + AbstractRepositoryImpl.class.getName());
 
@@ -120,10 +190,17 @@ public abstract class AbstractRepositoryImpl<
 	protected SimpleExpression<ID> idExpr;
 	protected OrderSpecifier<?> idAscOrder;
 	protected QCLAZZ path;
+	private volatile QCLAZZ bulkPath;
+	private volatile EntityRowPlan entityRowPlan;
+	private volatile PgCopyWriter pgCopyWriter;
 	protected QAbstractEntity audit;
 	protected Querydsl querydsl;
 	protected JPAQueryFactory queryFactory;
 	protected SimpleJpaRepository<ENTITY, ID> simpleJpaRepository;
+	private final Map<List<String>, FetchGraphPlan> fetchGraphPlans = new ConcurrentHashMap<>();
+	protected SortKeyRegistry sortKeyRegistry;
+	private int jdbcFetchSize = DEFAULT_STREAM_FETCH_SIZE;
+	private CountCache countCache;
 	private boolean initialized;
 
 	// ----------------------------------------------------------------------
@@ -206,9 +283,35 @@ public abstract class AbstractRepositoryImpl<
 		}
 
 		idAscOrder = new OrderSpecifier<>(Order.ASC, (Expression<? extends Comparable<?>>) idExpr);
+		sortKeyRegistry = SortKeyRegistry.of(path, identifiable);
+		jdbcFetchSize = resolveJdbcFetchSize(entityManager);
+
+		Duration ttl = countCacheTtl();
+		countCache = ttl != null && ttl.isPositive() ? new CountCache(ttl, MAX_CACHED_COUNTS) : null;
+
 		initialized = true;
 	}
 
+	private static int resolveJdbcFetchSize(EntityManager entityManager) {
+
+		Object configured = entityManager.getEntityManagerFactory()
+				.getProperties()
+				.get(JDBC_FETCH_SIZE_PROPERTY);
+
+		if (configured == null) {
+			return DEFAULT_STREAM_FETCH_SIZE;
+		}
+
+		try {
+			return Integer.parseInt(configured.toString().trim());
+		}
+		catch (NumberFormatException e) {
+			throw new IllegalStateException(
+					"Invalid " + JDBC_FETCH_SIZE_PROPERTY + ": " + configured, e
+			);
+		}
+	}
+
 	protected final void assertInitialized() {
 		Assert.state(initialized, "AbstractRepositoryImpl has not been initialized");
 	}
@@ -219,20 +322,98 @@ public abstract class AbstractRepositoryImpl<
 			return null;
 		}
 
-		EntityGraph<?> graph = entityManager.createEntityGraph(path.getType());
-		ManagedType<?> rootType = entityManager.getMetamodel().managedType(path.getType());
+		return getRelatedDataHints(resolveFetchGraphPlan(hints));
+	}
+
+	/**
+	 * Query hints loading an already resolved plan (e.g. one collection branch);
+	 * {@code null} for an empty plan.
+	 */
+	protected QueryHints getRelatedDataHints(FetchGraphPlan plan) {
+
+		if (plan.isEmpty()) {
+			return null;
+		}
+
+		MutableQueryHints qh = new MutableQueryHints();
+		qh.add("jakarta.persistence.fetchgraph", plan.toEntityGraph(entityManager, domainClass));
+		return qh;
+	}
+
+	/**
+	 * Returns the compiled plan for a hint array, parsing and validating it only once.
+	 *
+	 * <p>
+	 * Hint strings are code constants, so the cache stays small. The size guard only
+	 * protects against callers that build hint strings dynamically; beyond it plans are
+	 * still compiled, just not cached. Invalid hints are never cached (they throw).
+	 * </p>
+	 */
+	protected FetchGraphPlan resolveFetchGraphPlan(String... hints) {
+
+		if (ArrayUtils.isEmpty(hints)) {
+			return FetchGraphPlan.EMPTY;
+		}
+
+		List<String> key = Collections.unmodifiableList(Arrays.asList(hints.clone()));
+
+		FetchGraphPlan plan = fetchGraphPlans.get(key);
+		if (plan != null) {
+			return plan;
+		}
+
+		plan = compileFetchGraphPlan(hints);
+
+		if (fetchGraphPlans.size() < MAX_CACHED_FETCH_GRAPH_PLANS) {
+			FetchGraphPlan raced = fetchGraphPlans.putIfAbsent(key, plan);
+			if (raced != null) {
+				return raced;
+			}
+		}
+
+		return plan;
+	}
+
+	private FetchGraphPlan compileFetchGraphPlan(String... hints) {
+
+		ManagedType<?> rootType = entityManager.getMetamodel().managedType(domainClass);
+		List<FetchGraphPlan.Node> nodes = new ArrayList<>();
 
 		for (String hint : hints) {
 			if (hint == null || hint.isBlank()) {
 				continue;
 			}
 			String graphSpec = normalizeGraphSpec(hint, rootType.getJavaType().getSimpleName());
-			applyGraphSpec(new EntityGraphContainer(graph), rootType, graphSpec);
+			nodes.addAll(compileGraphSpec(rootType, graphSpec));
 		}
 
-		MutableQueryHints qh = new MutableQueryHints();
-		qh.add("jakarta.persistence.fetchgraph", graph);
-		return qh;
+		return nodes.isEmpty() ? FetchGraphPlan.EMPTY : new FetchGraphPlan(nodes);
+	}
+
+	/**
+	 * First occurrence of each root, in row order.
+	 * {@code Long} IDs are tracked in a primitive set (no boxed keys / map entries).
+	 */
+	protected List<ENTITY> distinctRoots(List<ENTITY> rows) {
+
+		if (rows == null || rows.isEmpty()) {
+			return new ArrayList<>(0);
+		}
+
+		if (idClass != Long.class) {
+			return new ArrayList<>(deduplicateById(rows).values());
+		}
+
+		LongHashSet seen = new LongHashSet(rows.size());
+		List<ENTITY> unique = new ArrayList<>(rows.size());
+
+		for (ENTITY e : rows) {
+			if (seen.add(e.getId())) {
+				unique.add(e);
+			}
+		}
+
+		return unique;
 	}
 
 	/**
@@ -283,15 +464,16 @@ public abstract class AbstractRepositoryImpl<
 		return graph;
 	}
 
-	protected void applyGraphSpec(
-			GraphContainer graph,
-			ManagedType<?> rootType,
+	private List<FetchGraphPlan.Node> compileGraphSpec(
+			ManagedType<?> type,
 			String graphSpec) {
 
 		if (graphSpec == null || graphSpec.isBlank()) {
-			return;
+			return List.of();
 		}
 
+		List<FetchGraphPlan.Node> nodes = new ArrayList<>();
+
 		for (String token : splitTopLevel(graphSpec)) {
 
 			if (token.isEmpty()) {
@@ -301,11 +483,10 @@ public abstract class AbstractRepositoryImpl<
 			int paren = token.indexOf('(');
 
 			// --------------------------------------------------
-			// SIMPLE ATTRIBUTE (root-level only)
+			// SIMPLE ATTRIBUTE
 			// --------------------------------------------------
 			if (paren < 0) {
-				validateAttribute(rootType, token);
-				graph.addAttribute(token);
+				nodes.add(new FetchGraphPlan.Node(validateAttribute(type, token), null, List.of()));
 				continue;
 			}
 
@@ -315,20 +496,19 @@ public abstract class AbstractRepositoryImpl<
 			String attrName = token.substring(0, paren).trim();
 			String nestedSpec = token.substring(paren + 1, token.length() - 1).trim();
 
-			Attribute<?, ?> attr = validateAttribute(rootType, attrName);
+			Attribute<?, ?> attr = validateAttribute(type, attrName);
 			ManagedType<?> nestedType = resolveManagedType(attr);
 
-			Subgraph<?> subgraph =
-					graph.addSubgraph(attr, nestedType);
-
 			// 🔒 IMPORTANT:
 			// Nested parsing is scoped ONLY to nestedType
-			applyGraphSpec(
-					new SubgraphContainer(subgraph),
+			nodes.add(new FetchGraphPlan.Node(
+					attr,
 					nestedType,
-					nestedSpec
-			);
+					compileGraphSpec(nestedType, nestedSpec)
+			));
 		}
+
+		return nodes;
 	}
 
 	private Attribute<?, ?> validateAttribute(
@@ -443,11 +623,11 @@ public abstract class AbstractRepositoryImpl<
 			);
 		}
 
-		JPQLQuery<ENTITY> entityQuery =
-				createQuery(idExpr.eq(ids.getFirst()), hints)
-						.select(path);
+		List<ENTITY> rows =
+				fetchByIds(idExpr.eq(ids.getFirst()), query -> {
+				}, hints);
 
-		return Optional.ofNullable(entityQuery.fetchOne());
+		return rows.stream().findFirst();
 	}
 
 	/**
@@ -505,12 +685,11 @@ public abstract class AbstractRepositoryImpl<
 		}
 
 		// Phase 2 — entity fetch with fetch graph
-		JPQLQuery<ENTITY> entityQuery =
-				createQuery(idExpr.in(ids), hints).select(path);
-
-		applyStableOrderAfterIdPaging(entityQuery, criteria, ids);
-
-		List<ENTITY> rows = entityQuery.fetch();
+		List<ENTITY> rows = fetchByIds(
+				IdPredicates.in(idExpr, ids),
+				query -> applyStableOrderAfterIdPaging(query, criteria, ids),
+				hints
+		);
 
 		// ------------------------------------------------------------
 		// STRICT ROOT DEDUPLICATION (safe because NO pagination)
@@ -518,9 +697,189 @@ public abstract class AbstractRepositoryImpl<
 		// JPA may return duplicate roots when fetching collections.
 		// Dedup is REQUIRED here to preserve set semantics.
 		// This does NOT hide paging bugs because paging is forbidden.
-		Map<ID, ENTITY> unique = deduplicateById(rows);
+		return orderedRoots(rows, ids);
+	}
+
+	// ----------------------------------------------------------------------
+	// STREAMING READS (SERVER-SIDE CURSOR)
+	// ----------------------------------------------------------------------
+
+	/**
+	 * Streams all matching entities chunk by chunk with constant heap.
+	 *
+	 * <p>
+	 * Same ordering guarantees as {@link #findAll}:
+	 * <ul>
+	 *   <li>Phase 1 — ordered ID cursor (forward-only, JDBC fetch size)</li>
+	 *   <li>Phase 2 — per-chunk entity fetch with fetch graph ({@link #fetchPageByIds})</li>
+	 *   <li>Persistence context cleared between chunks</li>
+	 * </ul>
+	 * </p>
+	 *
+	 * <p>
+	 * STRICT:
+	 * Entities handed to {@code action} are detached once the next chunk is loaded.
+	 * Must run inside a transaction with no pending changes
+	 * (clearing would otherwise silently drop them).
+	 * </p>
+	 *
+	 * @return number of entities processed
+	 */
+	@Override
+	public long forEachChunk(
+			CRITERIA criteria,
+			int chunkSize,
+			Consumer<List<ENTITY>> action,
+			String... hints) {
+
+		Assert.notNull(action, "Chunk action must not be null");
+
+		long processed = 0;
+		try (ChunkCursor cursor = openChunkCursor(criteria, chunkSize, hints)) {
+			while (cursor.hasNext()) {
+				List<ENTITY> chunk = cursor.next();
+				action.accept(chunk);
+				processed += chunk.size();
+			}
+		}
+		return processed;
+	}
+
+	/**
+	 * Lazy entity stream over {@link #forEachChunk}'s chunk cursor.
+	 *
+	 * <p>
+	 * STRICT: the returned stream holds an open JDBC cursor and MUST be closed
+	 * (try-with-resources).
+	 * </p>
+	 */
+	@Override
+	public Stream<ENTITY> stream(CRITERIA criteria, int chunkSize, String... hints) {
+
+		ChunkCursor cursor = openChunkCursor(criteria, chunkSize, hints);
+
+		Spliterator<List<ENTITY>> chunks = Spliterators.spliteratorUnknownSize(
+				cursor,
+				Spliterator.ORDERED | Spliterator.NONNULL
+		);
+
+		return StreamSupport.stream(chunks, false)
+				.onClose(cursor::close)
+				.flatMap(List::stream);
+	}
+
+	private ChunkCursor openChunkCursor(
+			CRITERIA criteria,
+			int chunkSize,
+			String... hints) {
+
+		assertInitialized();
+		Assert.notNull(criteria, "Criteria must not be null");
+
+		if (criteria.toPageable() != null) {
+			throw new IllegalStateException(
+					"Paging is not supported in streaming reads. Use findByPaging()."
+			);
+		}
+
+		// One phase-2 ID list per chunk → same bound as bulk IN lists
+		int maxChunkSize = bulkInChunkSize();
+		if (chunkSize < 1 || chunkSize > maxChunkSize) {
+			throw new IllegalArgumentException(
+					"chunkSize must be between 1 and " + maxChunkSize + ": " + chunkSize
+			);
+		}
+
+		Assert.state(
+				TransactionSynchronizationManager.isActualTransactionActive(),
+				"Streaming reads require an active transaction (server-side cursor)."
+		);
+
+		if (entityManager.unwrap(Session.class).isDirty()) {
+			throw new IllegalStateException(
+					"Streaming reads clear the persistence context. Flush pending changes first."
+			);
+		}
+
+		Predicate filter = criteria.getFilter(path);
+
+		JPQLQuery<ID> idQuery =
+				createQuery(filter).select(idExpr);
+
+		applySortOrDefaultById(idQuery, criteria);
+		assertNoAdditionalJoins((AbstractJPAQuery<?, ?>) idQuery, "stream.idQuery");
+
+		Query jpaQuery = ((AbstractJPAQuery<?, ?>) idQuery).createQuery();
+		jpaQuery.setHint(HINT_FETCH_SIZE, streamFetchSize());
+
+		@SuppressWarnings("unchecked")
+		Stream<ID> ids = (Stream<ID>) jpaQuery.getResultStream();
+
+		return new ChunkCursor(ids, criteria, chunkSize, hints);
+	}
+
+	/**
+	 * Phase-1 ID cursor + per-chunk phase-2 fetch.
+	 *
+	 * <p>
+	 * Chunks are consecutive slices of the globally ordered ID cursor,
+	 * so concatenated chunks keep the {@link #findAll} order.
+	 * </p>
+	 */
+	private final class ChunkCursor implements Iterator<List<ENTITY>>, AutoCloseable {
+
+		private final Stream<ID> idStream;
+		private final Iterator<ID> ids;
+		private final CRITERIA criteria;
+		private final int chunkSize;
+		private final String[] hints;
+		private boolean loaded;
+
+		private ChunkCursor(Stream<ID> idStream, CRITERIA criteria, int chunkSize, String[] hints) {
+			this.idStream = idStream;
+			this.ids = idStream.iterator();
+			this.criteria = criteria;
+			this.chunkSize = chunkSize;
+			this.hints = hints;
+		}
+
+		@Override
+		public boolean hasNext() {
+			return ids.hasNext();
+		}
+
+		@Override
+		public List<ENTITY> next() {
+
+			if (!ids.hasNext()) {
+				throw new NoSuchElementException();
+			}
+
+			List<ID> chunkIds = new ArrayList<>(chunkSize);
+			while (chunkIds.size() < chunkSize && ids.hasNext()) {
+				chunkIds.add(ids.next());
+			}
 
-		return new ArrayList<>(unique.values());
+			// Detach the previous chunk → heap stays bounded by one chunk
+			if (loaded) {
+				entityManager.clear();
+			}
+			loaded = true;
+
+			return fetchPageByIds(chunkIds, criteria, hints);
+		}
+
+		@Override
+		public void close() {
+			try {
+				idStream.close();
+			}
+			finally {
+				if (loaded) {
+					entityManager.clear();
+				}
+			}
+		}
 	}
 
 	/**
@@ -547,14 +906,104 @@ public abstract class AbstractRepositoryImpl<
 
 		Predicate filter = criteria.getFilter(path);
 
+		// ------------------------------------------------------------
+		// KEYSET MODE (seek, always ID-first)
+		// ------------------------------------------------------------
+		if (criteria.isKeysetPaging()) {
+			return findByKeyset(criteria, pageable, filter, hints);
+		}
+
+		// ------------------------------------------------------------
+		// SNAPSHOT MODE (ordered IDs materialized once per search)
+		// ------------------------------------------------------------
+		if (criteria.isSnapshotPaging()) {
+			return findBySnapshot(criteria, pageable, filter, hints);
+		}
+
 		boolean requiresIdFirst =
 				fetchGraphContainsCollection(hints);
 
+		// The window total is always exact → only used in EXACT count mode
+		boolean exactCount =
+				criteria.resolveCountMode() == AbstractCriteria.CountMode.EXACT;
+
+		// Page 2..N of the same filter: memoized total, no count at all
+		CountCache.Probe countProbe = exactCount ? countProbe(filter) : null;
+		Long cachedTotal = countProbe != null ? countProbe.cached() : null;
+
+		// A parallel count replaces the window total (the count then costs no page latency)
+		Future<Long> pendingCount;
+		if (cachedTotal != null) {
+			pendingCount = CompletableFuture.completedFuture(cachedTotal);
+		}
+		else if (exactCount && criteria.resolveParallelCount()) {
+			pendingCount = startParallelCount(filter);
+		}
+		else {
+			pendingCount = null;
+		}
+
+		boolean windowTotal =
+				exactCount
+						&& pendingCount == null
+						&& totalCountStrategy() == TotalCountStrategy.WINDOW_FUNCTION;
+
+		try {
+			return findOffsetPage(
+					criteria, pageable, filter, requiresIdFirst, windowTotal, pendingCount, countProbe, hints);
+		}
+		finally {
+			if (pendingCount != null) {
+				pendingCount.cancel(true); // no-op once joined; stops work for short / failed pages
+			}
+		}
+	}
+
+	private Page<ENTITY> findOffsetPage(
+			CRITERIA criteria,
+			Pageable pageable,
+			Predicate filter,
+			boolean requiresIdFirst,
+			boolean windowTotal,
+			Future<Long> pendingCount,
+			CountCache.Probe countProbe,
+			String... hints) {
+
 		// ------------------------------------------------------------
 		// FAST PATH (to-one only)
 		// ------------------------------------------------------------
 		if (!requiresIdFirst) {
 
+			// The window total is only attached when there is no fetch graph:
+			// an entity graph on a multi-select (entity + scalar) query is not portable.
+			if (windowTotal && ArrayUtils.isEmpty(hints)) {
+
+				JPQLQuery<Tuple> query =
+						createQuery(filter).select(path, WINDOW_TOTAL);
+
+				applySortOrDefaultById(query, criteria);
+
+				query = query.offset(pageable.getOffset())
+						.limit(pageable.getPageSize());
+
+				List<Tuple> rows = query.fetch();
+				List<ENTITY> content = new ArrayList<>(rows.size());
+				for (Tuple row : rows) {
+					content.add(row.get(0, domainClass));
+				}
+
+				// Empty page carries no total → separate count
+				long total = rows.isEmpty()
+						? count(criteria)
+						: rows.getFirst().get(1, Long.class);
+
+				if (countProbe != null) {
+					countProbe.store(total);
+				}
+
+				return new PageImpl<>(content, pageable, total);
+			}
+
 			JPQLQuery<ENTITY> query =
 					createQuery(filter, hints).select(path);
 
@@ -564,78 +1013,1144 @@ public abstract class AbstractRepositoryImpl<
 					.limit(pageable.getPageSize());
 
 			List<ENTITY> content = query.fetch();
-			long total = count(criteria);
 
-			return new PageImpl<>(content, pageable, total);
+			return toOffsetPage(content, pageable, criteria, filter, pendingCount);
 		}
 
 		// ------------------------------------------------------------
 		// PHASE 1 — ID PAGE (GLOBAL ORDER + OFFSET/LIMIT)
 		// ------------------------------------------------------------
-		JPQLQuery<ID> idQuery =
-				createQuery(filter).select(idExpr);
-
-		applySortOrDefaultById(idQuery, criteria);
-
-		idQuery = idQuery
-				.offset(pageable.getOffset())
-				.limit(pageable.getPageSize());
-
-		assertNoAdditionalJoins((AbstractJPAQuery<?, ?>) idQuery, "findByPaging.idQuery");
-		List<ID> ids = idQuery.fetch();
+		IdPage<ID> idPage = fetchIdPage(filter, criteria, pageable, windowTotal);
+		List<ID> ids = idPage.ids();
 
 		if (ids.isEmpty()) {
-			return Page.empty(pageable);
+			// Empty page carries no total → separate count
+			return toOffsetPage(List.of(), pageable, criteria, filter, pendingCount);
 		}
 
 		// ------------------------------------------------------------
 		// PHASE 2 — ENTITY FETCH
 		// ------------------------------------------------------------
-		JPQLQuery<ENTITY> entityQuery =
-				createQuery(idExpr.in(ids), hints).select(path);
-
-		applyStableOrderAfterIdPaging(entityQuery, criteria, ids);
-
-		List<ENTITY> rows = entityQuery.fetch();
-		Map<ID, ENTITY> unique = deduplicateById(rows);
-		List<ENTITY> content = new ArrayList<>(unique.values());
+		List<ENTITY> content = fetchPageByIds(ids, criteria, hints);
 
-		if (content.size() != ids.size()) {
-			throw new IllegalStateException(
-					"Phase-2 fetch returned " + content.size() +
-							" unique roots for " + ids.size() + " ids. " +
-							"FetchGraph likely produced join-multiplication or filtered rows."
-			);
+		if (idPage.total() != null) {
+			if (countProbe != null) {
+				countProbe.store(idPage.total());
+			}
+			return new PageImpl<>(content, pageable, idPage.total());
 		}
 
-		long total = count(criteria);
-
-		return new PageImpl<>(content, pageable, total);
+		return toOffsetPage(content, pageable, criteria, filter, pendingCount);
 	}
 
+	// ----------------------------------------------------------------------
+	// PROJECTED READS (NO ENTITY HYDRATION)
+	// ----------------------------------------------------------------------
+
 	/**
-	 * Returns matching entity IDs.
+	 * Single-query OFFSET page selecting the projection's root columns.
 	 *
 	 * <p>
-	 * Used internally for bulk operations.
-	 * Ordering does NOT affect correctness here.
+	 * No fetch graph and no phase 2: projected rows never multiply.
+	 * Totals follow {@code criteria.countMode} (window total / memo in EXACT mode).
+	 * KEYSET / SNAPSHOT paging are entity-only.
 	 * </p>
 	 */
 	@Override
-	public List<ID> findIds(CRITERIA criteria) {
+	public <T> Page<T> findByPaging(CRITERIA criteria, Projection<T> projection) {
 
 		assertInitialized();
 		Assert.notNull(criteria, "Criteria must not be null");
 
-		Predicate filter = criteria.getFilter(path);
+		if (criteria.isKeysetPaging() || criteria.isSnapshotPaging()) {
+			throw new IllegalStateException(
+					"Only OFFSET paging is supported for projections. pagingMode=" + criteria.getPagingMode()
+			);
+		}
 
-		JPQLQuery<ID> query =
+		Pageable pageable = criteria.toPageable();
+		Assert.notNull(pageable, "Pageable must not be null");
+
+		Expression<T> select = projectionExpression(projection);
+		Predicate filter = criteria.getFilter(path);
+
+		boolean exactCount =
+				criteria.resolveCountMode() == AbstractCriteria.CountMode.EXACT;
+
+		CountCache.Probe countProbe = exactCount ? countProbe(filter) : null;
+		Long cachedTotal = countProbe != null ? countProbe.cached() : null;
+
+		if (exactCount && cachedTotal == null
+				&& totalCountStrategy() == TotalCountStrategy.WINDOW_FUNCTION) {
+
+			JPQLQuery<Tuple> query =
+					createQuery(filter).select(select, WINDOW_TOTAL);
+
+			applySortOrDefaultById(query, criteria);
+
+			query = query.offset(pageable.getOffset())
+					.limit(pageable.getPageSize());
+
+			assertNoAdditionalJoins((AbstractJPAQuery<?, ?>) query, "findByPaging.projection");
+
+			List<Tuple> rows = query.fetch();
+			List<T> content = new ArrayList<>(rows.size());
+			for (Tuple row : rows) {
+				content.add(row.get(select));
+			}
+
+			// Empty page carries no total → separate count
+			long total = rows.isEmpty()
+					? count(criteria)
+					: rows.getFirst().get(1, Long.class);
+
+			if (countProbe != null) {
+				countProbe.store(total);
+			}
+
+			return new PageImpl<>(content, pageable, total);
+		}
+
+		JPQLQuery<T> query =
+				createQuery(filter).select(select);
+
+		applySortOrDefaultById(query, criteria);
+
+		query = query.offset(pageable.getOffset())
+				.limit(pageable.getPageSize());
+
+		assertNoAdditionalJoins((AbstractJPAQuery<?, ?>) query, "findByPaging.projection");
+
+		Future<Long> knownTotal =
+				cachedTotal != null ? CompletableFuture.completedFuture(cachedTotal) : null;
+
+		return toOffsetPage(query.fetch(), pageable, criteria, filter, knownTotal);
+	}
+
+	@Override
+	public <T> List<T> findAll(CRITERIA criteria, Projection<T> projection) {
+
+		assertInitialized();
+		Assert.notNull(criteria, "Criteria must not be null");
+
+		if (criteria.toPageable() != null) {
+			throw new IllegalStateException(
+					"Paging is not supported in findAll(). Use findByPaging()."
+			);
+		}
+
+		JPQLQuery<T> query =
+				createQuery(criteria.getFilter(path)).select(projectionExpression(projection));
+
+		applySortOrDefaultById(query, criteria);
+		assertNoAdditionalJoins((AbstractJPAQuery<?, ?>) query, "findAll.projection");
+
+		return query.fetch();
+	}
+
+	/**
+	 * PostgreSQL: {@code array_agg} grouped by root key (one row per root).
+	 * Other databases: plain ordered rows, grouped in memory.
+	 */
+	@Override
+	@SuppressWarnings("unchecked")
+	public <V> Map<ID, List<V>> aggregateByIds(Collection<ID> ids, ToManyAggregate<V> aggregate) {
+
+		assertInitialized();
+		Assert.notNull(aggregate, "Aggregate must not be null");
+
+		if (ids == null || ids.isEmpty()) {
+			return Map.of();
+		}
+
+		SimpleExpression<ID> rootKey = (SimpleExpression<ID>) aggregate.getRootKey();
+		Expression<V> value = aggregate.getValue();
+
+		Map<ID, List<V>> result = new LinkedHashMap<>(ids.size() * 2);
+
+		if (IS_POSTGRES_DB) {
+
+			Expression<Object[]> values = Expressions.template(
+					Object[].class,
+					"array_agg({0}) within group (order by {0})",
+					value
+			);
+
+			List<Tuple> rows = queryFactory
+					.select(rootKey, values)
+					.from(aggregate.getLink())
+					.where(IdPredicates.in(rootKey, ids))
+					.groupBy(rootKey)
+					.fetch();
+
+			for (Tuple row : rows) {
+				Object[] array = row.get(1, Object[].class);
+				List<V> list = new ArrayList<>(array == null ? 0 : array.length);
+				if (array != null) {
+					for (Object element : array) {
+						list.add((V) element);
+					}
+				}
+				result.put(row.get(0, idClass), list);
+			}
+
+			return result;
+		}
+
+		List<Tuple> rows = queryFactory
+				.select(rootKey, value)
+				.from(aggregate.getLink())
+				.where(IdPredicates.in(rootKey, ids))
+				.orderBy(new OrderSpecifier<>(Order.ASC, (Expression<? extends Comparable<?>>) value))
+				.fetch();
+
+		for (Tuple row : rows) {
+			result.computeIfAbsent(row.get(0, idClass), k -> new ArrayList<>())
+					.add(row.get(1, value.getType()));
+		}
+
+		return result;
+	}
+
+	/**
+	 * Projection expression, validated to read basic root attributes only.
+	 */
+	private <T> Expression<T> projectionExpression(Projection<T> projection) {
+
+		Assert.notNull(projection, "Projection must not be null");
+
+		assertRootColumns(projection.getExpression());
+
+		return projection.getExpression();
+	}
+
+	private void assertRootColumns(Expression<?> expr) {
+
+		if (expr instanceof Path<?> column) {
+
+			Path<?> parent = column.getMetadata().getParent();
+
+			boolean rootAttribute = parent != null && parent.equals(path);
+			boolean basic = !(column instanceof EntityPath<?>) && !(column instanceof CollectionExpression<?, ?>);
+
+			if (!rootAttribute || !basic) {
+				throw new IllegalArgumentException(
+						"Projection columns must be basic attributes of " + path + ": " + column
+				);
+			}
+			return;
+		}
+
+		List<?> args = switch (expr) {
+			case FactoryExpression<?> factory -> factory.getArgs();
+			case Operation<?> operation -> operation.getArgs();
+			case TemplateExpression<?> template -> template.getArgs();
+			default -> List.of(); // constants, scalar subqueries
+		};
+
+		for (Object arg : args) {
+			if (arg instanceof Expression<?> nested) {
+				assertRootColumns(nested);
+			}
+		}
+	}
+
+	// ----------------------------------------------------------------------
+	// SLICE (NO COUNT)
+	// ----------------------------------------------------------------------
+
+	@Override
+	public Slice<ENTITY> findSlice(CRITERIA criteria, String... hints) {
+
+		assertInitialized();
+		Assert.notNull(criteria, "Criteria must not be null");
+
+		if (criteria.isKeysetPaging()) {
+			throw new IllegalStateException(
+					"Keyset paging is not supported in findSlice(). Use findByPaging()."
+			);
+		}
+
+		Pageable pageable = criteria.toPageable();
+		Assert.notNull(pageable, "Pageable must not be null");
+
+		Predicate filter = criteria.getFilter(path);
+
+		// One extra row answers hasNext
+		int probeSize = pageable.getPageSize() + 1;
+
+		// ------------------------------------------------------------
+		// FAST PATH (to-one only)
+		// ------------------------------------------------------------
+		if (!fetchGraphContainsCollection(hints)) {
+
+			JPQLQuery<ENTITY> query =
+					createQuery(filter, hints).select(path);
+
+			applySortOrDefaultById(query, criteria);
+
+			query = query.offset(pageable.getOffset())
+					.limit(probeSize);
+
+			List<ENTITY> content = new ArrayList<>(query.fetch());
+			boolean hasNext = trimProbe(content, pageable.getPageSize());
+
+			return new SliceImpl<>(content, pageable, hasNext);
+		}
+
+		// ------------------------------------------------------------
+		// PHASE 1 — ID PAGE (GLOBAL ORDER + OFFSET/LIMIT + 1)
+		// ------------------------------------------------------------
+		JPQLQuery<ID> idQuery =
+				createQuery(filter).select(idExpr);
+
+		applySortOrDefaultById(idQuery, criteria);
+
+		idQuery = idQuery
+				.offset(pageable.getOffset())
+				.limit(probeSize);
+
+		assertNoAdditionalJoins((AbstractJPAQuery<?, ?>) idQuery, "findSlice.idQuery");
+
+		List<ID> ids = new ArrayList<>(idQuery.fetch());
+		boolean hasNext = trimProbe(ids, pageable.getPageSize());
+
+		if (ids.isEmpty()) {
+			return new SliceImpl<>(List.of(), pageable, false);
+		}
+
+		// ------------------------------------------------------------
+		// PHASE 2 — ENTITY FETCH
+		// ------------------------------------------------------------
+		return new SliceImpl<>(fetchPageByIds(ids, criteria, hints), pageable, hasNext);
+	}
+
+	/**
+	 * Drops the probe row (if any) from a {@code pageSize + 1} read.
+	 *
+	 * @return whether the probe row was present (there is a next slice)
+	 */
+	private static boolean trimProbe(List<?> rows, int pageSize) {
+
+		if (rows.size() <= pageSize) {
+			return false;
+		}
+
+		rows.subList(pageSize, rows.size()).clear();
+		return true;
+	}
+
+	// ----------------------------------------------------------------------
+	// TOTAL COUNT MODES (EXACT / CAPPED / ESTIMATE)
+	// ----------------------------------------------------------------------
+
+	/**
+	 * OFFSET page whose total comes from {@link #resolveTotal}.
+	 *
+	 * <p>
+	 * A non-empty page shorter than the page size is the last page:
+	 * its total ({@code offset + size}) is known exactly without counting.
+	 * </p>
+	 */
+	protected <T> Page<T> toOffsetPage(
+			List<T> content,
+			Pageable pageable,
+			CRITERIA criteria,
+			Predicate filter) {
+
+		return toOffsetPage(content, pageable, criteria, filter, null);
+	}
+
+	/**
+	 * As {@link #toOffsetPage(List, Pageable, AbstractCriteria, Predicate)}, joining an
+	 * already running {@link #startParallelCount parallel count} when a total is needed.
+	 */
+	protected <T> Page<T> toOffsetPage(
+			List<T> content,
+			Pageable pageable,
+			CRITERIA criteria,
+			Predicate filter,
+			Future<Long> pendingCount) {
+
+		long seen = pageable.getOffset() + content.size();
+
+		boolean lastPage = content.isEmpty()
+				? pageable.getOffset() == 0
+				: content.size() < pageable.getPageSize();
+
+		if (lastPage) {
+			return new RepositoryPage<>(content, pageable, seen);
+		}
+
+		if (pendingCount != null) {
+			// Separate snapshot: never report fewer rows than this page has proven
+			return new RepositoryPage<>(content, pageable, Math.max(joinCount(pendingCount), seen));
+		}
+
+		PageTotal total = resolveTotal(criteria, filter, seen);
+
+		return new RepositoryPage<>(content, pageable, total.value(), null, null, total.exact());
+	}
+
+	// ----------------------------------------------------------------------
+	// PARALLEL COUNT (SEPARATE READ-ONLY CONNECTION)
+	// ----------------------------------------------------------------------
+
+	/**
+	 * Starts {@code count(filter)} on a virtual thread with its own
+	 * EntityManager / read-only connection.
+	 *
+	 * <p>
+	 * Returns {@code null} (caller counts serially) when:
+	 * </p>
+	 * <ul>
+	 *   <li>the current transaction may have written: a separate connection would not see its rows</li>
+	 *   <li>{@link #MAX_PARALLEL_COUNTS} counts are already running</li>
+	 * </ul>
+	 */
+	protected Future<Long> startParallelCount(Predicate filter) {
+
+		if (!isReadOnlyContext() || !PARALLEL_COUNT_PERMITS.tryAcquire()) {
+			return null;
+		}
+
+		try {
+			return PARALLEL_COUNT_EXECUTOR.submit(() -> {
+				try {
+					return countOnSeparateConnection(filter);
+				}
+				finally {
+					PARALLEL_COUNT_PERMITS.release();
+				}
+			});
+		}
+		catch (RuntimeException e) {
+			PARALLEL_COUNT_PERMITS.release();
+			throw e;
+		}
+	}
+
+	private long countOnSeparateConnection(Predicate filter) {
+
+		// Started from a read-only context only → safe to share
+		CountCache.Probe probe = countCache != null ? countCache.probe(filter, domainClass) : null;
+
+		try (EntityManager em = entityManager.getEntityManagerFactory().createEntityManager()) {
+
+			em.unwrap(Session.class).setDefaultReadOnly(true);
+
+			EntityTransaction tx = em.getTransaction();
+			tx.begin();
+
+			try {
+				em.unwrap(Session.class).doWork(connection -> connection.setReadOnly(true));
+
+				AbstractJPAQuery<?, ?> query = new JPAQueryFactory(em).from(path);
+				if (filter != null) {
+					query.where(filter);
+				}
+
+				assertNoAdditionalJoins(query, "parallelCount");
+
+				Long count = query.select(idExpr.count()).fetchOne();
+				long total = count == null ? 0L : count;
+
+				if (probe != null) {
+					probe.store(total);
+				}
+
+				return total;
+			}
+			finally {
+				tx.rollback(); // read-only work: nothing to commit
+			}
+		}
+	}
+
+	private static long joinCount(Future<Long> pendingCount) {
+
+		try {
+			return pendingCount.get();
+		}
+		catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw new IllegalStateException("Interrupted while waiting for parallel count", e);
+		}
+		catch (ExecutionException e) {
+			if (e.getCause() instanceof RuntimeException runtime) {
+				throw runtime;
+			}
+			throw new IllegalStateException("Parallel count failed", e.getCause());
+		}
+	}
+
+	/**
+	 * Total according to {@code criteria.countMode}.
+	 *
+	 * @param seen rows known to exist (offset + page size); capped / estimated totals never go below it
+	 */
+	protected PageTotal resolveTotal(CRITERIA criteria, Predicate filter, long seen) {
+
+		return switch (criteria.resolveCountMode()) {
+			case EXACT -> new PageTotal(count(criteria), true);
+			case CAPPED -> cappedTotal(filter, criteria.resolveCountCap(), seen);
+			case ESTIMATE -> estimatedTotal(criteria, filter, seen);
+		};
+	}
+
+	/**
+	 * Counts at most {@code cap + 1} matching rows in SQL
+	 * ({@code select count(*) from (select id ... limit cap + 1)}): one {@code long} comes back,
+	 * and the scan stops after {@code cap + 1} index entries whatever the page offset.
+	 *
+	 * <p>
+	 * Within the cap the count is exact. Beyond it the total is {@code max(seen, cap + 1)}
+	 * with {@code exact == false}, read as "at least that many"; the cap is never raised
+	 * to reach deep pages.
+	 * </p>
+	 */
+	protected PageTotal cappedTotal(Predicate filter, long cap, long seen) {
+
+		QueryMetadata metadata =
+				((AbstractJPAQuery<?, ?>) createQuery(filter).select(idExpr)).getMetadata();
+
+		assertNoAdditionalJoins(metadata, path, "cappedCount");
+
+		JPQLSerializer serializer =
+				new JPQLSerializer(JPAProvider.getTemplates(entityManager), entityManager);
+		serializer.serialize(metadata, false, null);
+
+		List<Object> constants = serializer.getConstants();
+
+		// HQL derived table: the LIMIT applies inside, the count outside
+		Query countQuery = entityManager.createQuery(
+				"select count(*) from (" + serializer + " limit ?" + (constants.size() + 1) + ") capped"
+		);
+
+		JPAUtil.setConstants(countQuery, constants, metadata.getParams());
+		countQuery.setParameter(constants.size() + 1, (int) Math.min(cap + 1, Integer.MAX_VALUE));
+
+		long counted = ((Number) countQuery.getSingleResult()).longValue();
+
+		if (counted <= cap) {
+			return new PageTotal(counted, true);
+		}
+
+		return new PageTotal(Math.max(seen, counted), false);
+	}
+
+	/**
+	 * Planner estimate for unfiltered reads: {@code pg_class.reltuples} of the root table
+	 * (maintained by ANALYZE / autovacuum).
+	 *
+	 * <p>
+	 * STRICT: filtered reads (and tables never analyzed) get the {@link #cappedTotal CAPPED} total,
+	 * not a planner estimate. An {@code EXPLAIN} row estimate needs the SQL of the count query,
+	 * and Hibernate 7 has no public API to render a QueryDSL / HQL query to SQL (only
+	 * version-specific SQM translator internals). The capped count is bounded by the cap,
+	 * so the fallback stays cheap on deep pages.
+	 * </p>
+	 */
+	protected PageTotal estimatedTotal(CRITERIA criteria, Predicate filter, long seen) {
+
+		boolean unfiltered = filter == null
+				|| (filter instanceof BooleanBuilder builder && !builder.hasValue());
+
+		if (IS_POSTGRES_DB && unfiltered) {
+
+			Object estimate = entityManager
+					.createNativeQuery(
+							"select cast(reltuples as bigint) from pg_class where oid = to_regclass(cast(?1 as text))"
+					)
+					.setParameter(1, entityPersister().getTableName())
+					.getResultList()
+					.stream()
+					.findFirst()
+					.orElse(null);
+
+			// reltuples = -1 → table never analyzed
+			if (estimate instanceof Number n && n.longValue() >= 0) {
+				return new PageTotal(Math.max(n.longValue(), seen), false);
+			}
+		}
+
+		return cappedTotal(filter, criteria.resolveCountCap(), seen);
+	}
+
+	/**
+	 * Phase-1 ordered ID page (global ORDER BY + OFFSET / LIMIT).
+	 *
+	 * <p>
+	 * With {@code withTotal}, the same statement also selects {@code count(*) over()},
+	 * i.e. the filtered total before OFFSET / LIMIT is applied.
+	 * The total is {@code null} when the page is empty (no row to carry it).
+	 * </p>
+	 */
+	protected IdPage<ID> fetchIdPage(
+			Predicate filter,
+			CRITERIA criteria,
+			Pageable pageable,
+			boolean withTotal) {
+
+		if (!withTotal) {
+
+			JPQLQuery<ID> idQuery =
+					createQuery(filter).select(idExpr);
+
+			applySortOrDefaultById(idQuery, criteria);
+
+			idQuery = idQuery
+					.offset(pageable.getOffset())
+					.limit(pageable.getPageSize());
+
+			assertNoAdditionalJoins((AbstractJPAQuery<?, ?>) idQuery, "findByPaging.idQuery");
+
+			return new IdPage<>(idQuery.fetch(), null);
+		}
+
+		JPQLQuery<Tuple> idQuery =
+				createQuery(filter).select(idExpr, WINDOW_TOTAL);
+
+		applySortOrDefaultById(idQuery, criteria);
+
+		idQuery = idQuery
+				.offset(pageable.getOffset())
+				.limit(pageable.getPageSize());
+
+		assertNoAdditionalJoins((AbstractJPAQuery<?, ?>) idQuery, "findByPaging.idQuery");
+
+		List<Tuple> rows = idQuery.fetch();
+		List<ID> ids = new ArrayList<>(rows.size());
+		for (Tuple row : rows) {
+			ids.add(row.get(0, idClass));
+		}
+
+		return new IdPage<>(
+				ids,
+				rows.isEmpty() ? null : rows.getFirst().get(1, Long.class)
+		);
+	}
+
+	/**
+	 * Phase-2 entity fetch for an already resolved, ordered ID page.
+	 *
+	 * <p>
+	 * STRICT: every phase-1 ID must come back exactly once. A mismatch means the
+	 * fetch graph multiplied or filtered roots and is reported, not repaired.
+	 * </p>
+	 */
+	protected List<ENTITY> fetchPageByIds(
+			List<ID> ids,
+			CRITERIA criteria,
+			String... hints) {
+
+		List<ENTITY> rows = fetchByIds(
+				IdPredicates.in(idExpr, ids),
+				query -> applyStableOrderAfterIdPaging(query, criteria, ids),
+				hints
+		);
+
+		List<ENTITY> content = orderedRoots(rows, ids);
+
+		if (content.size() != ids.size()) {
+			throw new IllegalStateException(
+					"Phase-2 fetch returned " + content.size() +
+							" unique roots for " + ids.size() + " ids. " +
+							"FetchGraph likely produced join-multiplication or filtered rows."
+			);
+		}
+
+		return content;
+	}
+
+	/**
+	 * Phase-2 rows for an ID predicate, loading the fetch graph of {@code hints}.
+	 *
+	 * <p>
+	 * {@link CollectionFetchMode#SPLIT}: the first {@link FetchGraphPlan#branches() branch}
+	 * query returns the rows (with {@code order} applied); every further branch is
+	 * fetched over the same IDs only to initialize its collection on those managed roots.
+	 * </p>
+	 */
+	protected List<ENTITY> fetchByIds(
+			Predicate byIds,
+			Consumer<JPQLQuery<ENTITY>> order,
+			String... hints) {
+
+		List<FetchGraphPlan> branches = resolveFetchGraphPlan(hints).branches();
+
+		boolean split = branches.size() > 1
+				&& collectionFetchMode() == CollectionFetchMode.SPLIT
+				&& TransactionSynchronizationManager.isActualTransactionActive();
+
+		if (!split) {
+			JPQLQuery<ENTITY> query = createQuery(byIds, hints).select(path);
+			order.accept(query);
+			return query.fetch();
+		}
+
+		JPQLQuery<ENTITY> primary = createQuery(byIds, branches.getFirst()).select(path);
+		order.accept(primary);
+
+		List<ENTITY> rows = primary.fetch();
+
+		if (!rows.isEmpty()) {
+			for (FetchGraphPlan branch : branches.subList(1, branches.size())) {
+				createQuery(byIds, branch).select(path).fetch();
+			}
+		}
+
+		return rows;
+	}
+
+	// ----------------------------------------------------------------------
+	// SNAPSHOT PAGING
+	// ----------------------------------------------------------------------
+
+	/**
+	 * SNAPSHOT variant of {@link #findByPaging(AbstractCriteria, String...)}.
+	 *
+	 * <p>
+	 * The first request runs phase 1 once for the whole result (ordered IDs, at most
+	 * {@link #snapshotMaxIds()}) and stores it as a {@code long[]} under a search token
+	 * ({@link IdSnapshotStore}). Every page, including the first, is then a pure phase-2
+	 * fetch of its slice of that list: no filter, no ORDER BY, no OFFSET, no COUNT.
+	 * </p>
+	 *
+	 * <p>
+	 * Semantics:
+	 * <ul>
+	 *   <li>Total = snapshot size: stable across page turns
+	 *       ({@code totalExact == false} when the search matched more than {@link #snapshotMaxIds()})</li>
+	 *   <li>Membership and order are those of the snapshot; rows deleted since are skipped,
+	 *       so a page may come back shorter than its size</li>
+	 *   <li>An unknown / expired / foreign token silently starts a new snapshot
+	 *       (the returned token tells the client)</li>
+	 * </ul>
+	 * </p>
+	 */
+	protected Page<ENTITY> findBySnapshot(
+			CRITERIA criteria,
+			Pageable pageable,
+			Predicate filter,
+			String... hints) {
+
+		assertLongIds("SNAPSHOT paging");
+
+		// Token is bound to entity + ORDER BY + filter values
+		String signature = domainClass.getName()
+				+ '|' + KeysetCursor.signatureOf(resolveDeterministicOrder(criteria))
+				+ '|' + PredicateFingerprint.of(filter).key();
+
+		String token = criteria.getSearchToken();
+		IdSnapshotStore.Snapshot snapshot = IdSnapshotStore.SHARED.get(token, signature);
+
+		long[] ids;
+		boolean truncated;
+
+		if (snapshot != null) {
+			ids = snapshot.ids();
+			truncated = snapshot.truncated();
+		}
+		else {
+			// ------------------------------------------------------------
+			// PHASE 1 — FULL ORDERED ID LIST (ONCE PER SEARCH)
+			// ------------------------------------------------------------
+			int maxIds = snapshotMaxIds();
+
+			JPQLQuery<ID> idQuery =
+					createQuery(filter).select(idExpr);
+
+			applySortOrDefaultById(idQuery, criteria);
+
+			idQuery = idQuery.limit(maxIds + 1L);
+
+			assertNoAdditionalJoins((AbstractJPAQuery<?, ?>) idQuery, "findBySnapshot.idQuery");
+
+			LongIdList all = fetchLongIds(idQuery);
+
+			truncated = all.size() > maxIds;
+			ids = all.toArray(0, Math.min(all.size(), maxIds));
+
+			token = IdSnapshotStore.SHARED.put(signature, ids, truncated, snapshotTtl());
+		}
+
+		// ------------------------------------------------------------
+		// PHASE 2 — SLICE OF THE SNAPSHOT
+		// ------------------------------------------------------------
+		int from = (int) Math.min(pageable.getOffset(), ids.length);
+		int to = Math.min(from + pageable.getPageSize(), ids.length);
+
+		List<ENTITY> content = from == to
+				? List.of()
+				: fetchSnapshotPage(Arrays.copyOfRange(ids, from, to), hints);
+
+		return new RepositoryPage<>(content, pageable, ids.length, null, null, !truncated, token);
+	}
+
+	/**
+	 * Phase-2 fetch in snapshot order. Unlike {@link #fetchPageByIds}, IDs that no
+	 * longer exist are skipped instead of failing: the snapshot may predate deletes.
+	 */
+	private List<ENTITY> fetchSnapshotPage(long[] ids, String... hints) {
+
+		List<ENTITY> rows = fetchByIds(IdPredicates.in(longIdExpr(), ids), query -> {
+		}, hints);
+
+		// Slot per snapshot position: dedups fetch-graph rows and restores snapshot order
+		return inPositionOrder(rows, LongIndexMap.positionsOf(ids), ids.length);
+	}
+
+	// ----------------------------------------------------------------------
+	// KEYSET (SEEK) PAGING
+	// ----------------------------------------------------------------------
+
+	/**
+	 * KEYSET variant of {@link #findByPaging(AbstractCriteria, String...)}.
+	 *
+	 * <p>
+	 * Phase 1 seeks past the cursor row instead of skipping rows with OFFSET,
+	 * so the 10,000th page costs the same as the first one.
+	 * Phase 2 is the regular ID-first entity fetch.
+	 * </p>
+	 *
+	 * <p>
+	 * Flow:
+	 * <ul>
+	 *   <li>ORDER BY = resolved sort + ID tiebreaker (same as offset paging)</li>
+	 *   <li>Phase 1 selects the sort keys + ID, filtered by
+	 *       {@code (k1, k2, ..., id) > (cursor values)} and limited to pageSize + 1</li>
+	 *   <li>PREVIOUS pages run the same query with the ORDER BY reversed
+	 *       and restore the natural order in memory</li>
+	 * </ul>
+	 * </p>
+	 *
+	 * <p>
+	 * STRICT:
+	 * <ul>
+	 *   <li>Phase 1 stays join-free (same rule as offset paging).</li>
+	 *   <li>Sort keys must be NOT NULL. Optional attributes are rejected before any
+	 *       query runs ({@link SingularAttribute#isOptional()}); a seek predicate would
+	 *       otherwise skip every NULL-keyed row.</li>
+	 *   <li>A cursor issued for another ORDER BY is rejected.</li>
+	 * </ul>
+	 * </p>
+	 */
+	protected Page<ENTITY> findByKeyset(
+			CRITERIA criteria,
+			Pageable pageable,
+			Predicate filter,
+			String... hints) {
+
+		List<OrderSpecifier<?>> orders = resolveDeterministicOrder(criteria);
+		Expression<?>[] keys = new Expression<?>[orders.size()];
+		Class<?>[] keyTypes = new Class<?>[orders.size()];
+		int idIndex = -1;
+
+		for (int i = 0; i < orders.size(); i++) {
+			keys[i] = orders.get(i).getTarget();
+			keyTypes[i] = resolveKeyType(keys[i]);
+			if (keys[i].equals(idExpr)) {
+				idIndex = i;
+			}
+		}
+
+		Assert.state(idIndex >= 0, "Deterministic ORDER BY must contain the ID tiebreaker");
+
+		String signature = KeysetCursor.signatureOf(orders);
+		KeysetCursor cursor =
+				KeysetCursor.decode(criteria.getCursor(), signature, keys.length);
+
+		boolean backward =
+				cursor != null && cursor.direction() == KeysetCursor.Direction.PREVIOUS;
+
+		List<OrderSpecifier<?>> queryOrders =
+				backward ? reverse(orders) : orders;
+
+		BooleanBuilder where = new BooleanBuilder().and(filter);
+		if (cursor != null) {
+			where.and(seekPredicate(queryOrders, cursor.values(keyTypes)));
+		}
+
+		// ------------------------------------------------------------
+		// PHASE 1 — KEY PAGE (SEEK + LIMIT, NO OFFSET)
+		// ------------------------------------------------------------
+		JPQLQuery<Tuple> keyQuery =
+				createQuery(where).select(keys);
+
+		keyQuery.orderBy(queryOrders.toArray(new OrderSpecifier<?>[0]));
+		keyQuery.limit(pageable.getPageSize() + 1L);
+
+		assertNoAdditionalJoins((AbstractJPAQuery<?, ?>) keyQuery, "findByKeyset.keyQuery");
+
+		List<Tuple> rows = new ArrayList<>(keyQuery.fetch());
+
+		boolean hasMore = rows.size() > pageable.getPageSize();
+		if (hasMore) {
+			rows.removeLast();
+		}
+		if (backward) {
+			Collections.reverse(rows);
+		}
+
+		PageTotal total = resolveTotal(criteria, filter, rows.size());
+
+		if (rows.isEmpty()) {
+			return new RepositoryPage<>(List.of(), pageable, total.value(), null, null, total.exact());
+		}
+
+		List<ID> ids = new ArrayList<>(rows.size());
+		for (Tuple row : rows) {
+			ids.add(row.get(idIndex, idClass));
+		}
+
+		// ------------------------------------------------------------
+		// PHASE 2 — ENTITY FETCH
+		// ------------------------------------------------------------
+		List<ENTITY> content = fetchPageByIds(ids, criteria, hints);
+
+		// ------------------------------------------------------------
+		// CURSORS
+		// ------------------------------------------------------------
+		boolean hasNext = backward || hasMore;
+		boolean hasPrevious = backward ? hasMore : cursor != null;
+
+		String nextCursor = hasNext
+				? KeysetCursor.encode(KeysetCursor.Direction.NEXT, signature, rows.getLast().toArray())
+				: null;
+
+		String previousCursor = hasPrevious
+				? KeysetCursor.encode(KeysetCursor.Direction.PREVIOUS, signature, rows.getFirst().toArray())
+				: null;
+
+		return new RepositoryPage<>(content, pageable, total.value(), nextCursor, previousCursor, total.exact());
+	}
+
+	/**
+	 * Builds {@code (k1, ..., kn) > (v1, ..., vn)} relative to each key's direction:
+	 * <pre>
+	 * k1 > v1
+	 * OR (k1 = v1 AND k2 > v2)
+	 * OR (k1 = v1 AND k2 = v2 AND k3 > v3) ...
+	 * </pre>
+	 * ({@code <} for DESC keys). Expanded form is used because JPQL has no row-value comparison.
+	 */
+	private Predicate seekPredicate(
+			List<OrderSpecifier<?>> orders,
+			Object[] values) {
+
+		BooleanBuilder seek = new BooleanBuilder();
+
+		for (int i = 0; i < orders.size(); i++) {
+
+			BooleanBuilder branch = new BooleanBuilder();
+
+			for (int j = 0; j < i; j++) {
+				branch.and(Expressions.booleanOperation(
+						Ops.EQ, orders.get(j).getTarget(), Expressions.constant(values[j])));
+			}
+
+			Ops op = orders.get(i).isAscending() ? Ops.GT : Ops.LT;
+			branch.and(Expressions.booleanOperation(
+					op, orders.get(i).getTarget(), Expressions.constant(values[i])));
+
+			seek.or(branch);
+		}
+
+		return seek;
+	}
+
+	@SuppressWarnings({"rawtypes", "unchecked"})
+	private static List<OrderSpecifier<?>> reverse(List<OrderSpecifier<?>> orders) {
+
+		List<OrderSpecifier<?>> reversed = new ArrayList<>(orders.size());
+		for (OrderSpecifier<?> o : orders) {
+			reversed.add(new OrderSpecifier(
+					o.isAscending() ? Order.DESC : Order.ASC,
+					o.getTarget(),
+					o.getNullHandling()
+			));
+		}
+		return reversed;
+	}
+
+	/**
+	 * Resolves the Java type of an ORDER BY target and rejects nullable keyset keys.
+	 *
+	 * <p>
+	 * String sort keys are built with {@code PathBuilder.getComparable(.., Comparable.class)}
+	 * and carry no real type, so those paths are resolved through the JPA metamodel.
+	 * </p>
+	 *
+	 * <p>
+	 * A seek predicate {@code k > v} never matches {@code k IS NULL}: a nullable key would
+	 * silently drop those rows from every later page. Attributes the metamodel reports as
+	 * optional (leaf column, or a to-one association on the way) therefore fail fast.
+	 * </p>
+	 */
+	private Class<?> resolveKeyType(Expression<?> target) {
+
+		Class<?> type = target.getType();
+		boolean typed = type != null && type != Comparable.class && type != Object.class;
+
+		if (!(target instanceof Path<?> p)) {
+			if (typed) {
+				return type;
+			}
+			throw new IllegalStateException("Unsupported keyset ORDER BY target: " + target);
+		}
+
+		if (target.equals(idExpr)) {
+			return idClass;
+		}
+
+		Deque<String> names = new ArrayDeque<>();
+		Path<?> current = p;
+		while (current.getMetadata().getParent() != null) {
+			names.push(current.getMetadata().getName());
+			current = current.getMetadata().getParent();
+		}
+
+		ManagedType<?> currentType = entityManager.getMetamodel().managedType(domainClass);
+		Class<?> resolved = null;
+
+		for (Iterator<String> it = names.iterator(); it.hasNext(); ) {
+			Attribute<?, ?> attr = validateAttribute(currentType, it.next());
+			boolean leaf = !it.hasNext();
+
+			if (attr instanceof SingularAttribute<?, ?> singular
+					&& singular.isOptional()
+					&& (leaf || singular.isAssociation())) {
+				throw new IllegalArgumentException(
+						"Keyset paging requires NOT NULL sort keys. '" + target +
+								"' is nullable (" + attr.getDeclaringType().getJavaType().getSimpleName() +
+								"." + attr.getName() + ")."
+				);
+			}
+
+			resolved = attr.getJavaType();
+			if (!leaf) {
+				currentType = resolveManagedType(attr);
+			}
+		}
+
+		if (resolved == null) {
+			throw new IllegalStateException("Unsupported keyset ORDER BY target: " + target);
+		}
+		return typed ? type : resolved;
+	}
+
+	/**
+	 * Returns matching entity IDs.
+	 *
+	 * <p>
+	 * Used internally for bulk operations.
+	 * Ordering does NOT affect correctness here.
+	 * </p>
+	 */
+	@Override
+	public List<ID> findIds(CRITERIA criteria) {
+
+		assertInitialized();
+		Assert.notNull(criteria, "Criteria must not be null");
+
+		Predicate filter = criteria.getFilter(path);
+
+		JPQLQuery<ID> query =
+				createQuery(filter).select(idExpr);
+
+		applySortOrDefaultById(query, criteria);
+		assertNoAdditionalJoins((AbstractJPAQuery<?, ?>) query, "findIds");
+
+		return query.fetch();
+	}
+
+	@Override
+	public LongIdList findLongIds(CRITERIA criteria) {
+
+		assertInitialized();
+		Assert.notNull(criteria, "Criteria must not be null");
+		assertLongIds("findLongIds");
+
+		Predicate filter = criteria.getFilter(path);
+
+		JPQLQuery<ID> query =
 				createQuery(filter).select(idExpr);
 
-		applySortOrDefaultById(query, criteria);
-		assertNoAdditionalJoins((AbstractJPAQuery<?, ?>) query, "findIds");
+		applySortOrDefaultById(query, criteria);
+		assertNoAdditionalJoins((AbstractJPAQuery<?, ?>) query, "findLongIds");
+
+		return fetchLongIds(query);
+	}
+
+	/**
+	 * Drains an ID query into a {@link LongIdList}.
+	 *
+	 * <p>
+	 * Inside a transaction the rows are streamed (JDBC fetch size), so each boxed
+	 * ID dies young instead of being retained in a {@code List<Long>}.
+	 * Without one, the shared EntityManager closes after the call and the
+	 * result list is copied instead.
+	 * </p>
+	 */
+	private LongIdList fetchLongIds(JPQLQuery<ID> query) {
 
-		return query.fetch();
+		if (!TransactionSynchronizationManager.isActualTransactionActive()) {
+			List<ID> ids = query.fetch();
+			LongIdList out = new LongIdList(ids.size());
+			ids.forEach(id -> out.add((Long) id));
+			return out;
+		}
+
+		Query jpaQuery = ((AbstractJPAQuery<?, ?>) query).createQuery();
+		jpaQuery.setHint(HINT_FETCH_SIZE, streamFetchSize());
+
+		LongIdList out = new LongIdList();
+
+		try (Stream<?> ids = jpaQuery.getResultStream()) {
+			ids.forEach(id -> out.add((Long) id));
+		}
+
+		return out;
+	}
+
+	private void assertLongIds(String operation) {
+		Assert.state(idClass == Long.class,
+				operation + " requires Long ids. idClass=" + idClass.getName());
+	}
+
+	/**
+	 * ID_CHUNKS bulk DML: runs {@code action} once per {@link #bulkInChunkSize()} IDs
+	 * of {@code findIds(criteria)} and sums the affected rows.
+	 * {@code Long} IDs stay primitive ({@link #findLongIds}); only the current chunk is boxed.
+	 */
+	private long forEachIdChunk(CRITERIA criteria, ToLongFunction<Predicate> action) {
+
+		long affected = 0;
+		int chunkSize = bulkInChunkSize();
+
+		if (idClass == Long.class) {
+
+			LongIdList ids = findLongIds(criteria);
+
+			for (int from = 0; from < ids.size(); from += chunkSize) {
+				long[] chunk = ids.toArray(from, Math.min(ids.size(), from + chunkSize));
+				affected += action.applyAsLong(IdPredicates.in(longIdExpr(), chunk));
+			}
+
+			return affected;
+		}
+
+		for (List<ID> chunk : chunk(findIds(criteria), chunkSize)) {
+			affected += action.applyAsLong(IdPredicates.in(idExpr, chunk));
+		}
+
+		return affected;
+	}
+
+	@SuppressWarnings("unchecked")
+	private SimpleExpression<Long> longIdExpr() {
+		return (SimpleExpression<Long>) (SimpleExpression<?>) idExpr;
 	}
 
 	// ----------------------------------------------------------------------
@@ -658,6 +2173,12 @@ public abstract class AbstractRepositoryImpl<
 
 		Predicate filter = criteria.getFilter(path);
 
+		CountCache.Probe probe = countProbe(filter);
+		Long cached = probe != null ? probe.cached() : null;
+		if (cached != null) {
+			return cached;
+		}
+
 		AbstractJPAQuery<?, ?> query = createQuery(filter);
 		assertNoAdditionalJoins(query, "count");
 
@@ -665,7 +2186,35 @@ public abstract class AbstractRepositoryImpl<
 				query.select(idExpr.count())
 						.fetchOne();
 
-		return count == null ? 0L : count;
+		long total = count == null ? 0L : count;
+
+		if (probe != null) {
+			probe.store(total);
+		}
+
+		return total;
+	}
+
+	/**
+	 * Count memo access for {@code filter}, or {@code null} when the cache is
+	 * disabled ({@link #countCacheTtl()}) or the current transaction may have
+	 * written (its counts include uncommitted rows and must not be shared).
+	 */
+	private CountCache.Probe countProbe(Predicate filter) {
+
+		if (countCache == null) {
+			return null;
+		}
+
+		return isReadOnlyContext() ? countCache.probe(filter, domainClass) : null;
+	}
+
+	/**
+	 * No transaction, or a read-only one: nothing uncommitted to hide from other connections.
+	 */
+	private static boolean isReadOnlyContext() {
+		return !TransactionSynchronizationManager.isActualTransactionActive()
+				|| TransactionSynchronizationManager.isCurrentTransactionReadOnly();
 	}
 
 	/**
@@ -725,6 +2274,308 @@ public abstract class AbstractRepositoryImpl<
 		return affected;
 	}
 
+	// ----------------------------------------------------------------------
+	// BULK LOAD (POSTGRESQL COPY / UPSERT)
+	// ----------------------------------------------------------------------
+
+	/**
+	 * Inserts entities through {@code COPY <table> (...) FROM STDIN}.
+	 *
+	 * <p>
+	 * Per entity, the same preparation as a regular insert:
+	 * <ul>
+	 *   <li>{@code createdBy} / {@code updatedBy} set as in {@code BaseService.create}</li>
+	 *   <li>pre-persist callbacks ({@code @PrePersist}, auditing listener → dates)</li>
+	 *   <li>sequence id assigned through the entity's id generator</li>
+	 * </ul>
+	 * Rows are sent in COPY statements of {@link #copyChunkSize()} rows, so heap is bounded
+	 * by one encoded chunk.
+	 * </p>
+	 *
+	 * <p>
+	 * STRICT:
+	 * <ul>
+	 *   <li>Pending changes are flushed first; the persistence context is cleared afterwards
+	 *   ({@link #afterBulkDml()} semantics). Loaded entities are NOT managed.</li>
+	 *   <li>Cascades and collections are not written — parent rows only.</li>
+	 *   <li>PostgreSQL only.</li>
+	 * </ul>
+	 * </p>
+	 *
+	 * @return number of inserted rows
+	 */
+	@Override
+	public long copyInsert(Iterable<? extends ENTITY> entities, long createdBy) {
+
+		assertInitialized();
+		Assert.notNull(entities, "Entities must not be null");
+
+		if (!IS_POSTGRES_DB) {
+			throw new IllegalStateException("copyInsert requires PostgreSQL (IS_POSTGRES_DB = true).");
+		}
+
+		Assert.state(
+				TransactionSynchronizationManager.isActualTransactionActive(),
+				"copyInsert requires an active transaction."
+		);
+
+		// Referenced rows persisted earlier in this transaction must exist before COPY
+		entityManager.flush();
+
+		SharedSessionContractImplementor session =
+				entityManager.unwrap(SharedSessionContractImplementor.class);
+
+		CallbackRegistry callbacks =
+				session.getFactory().getEventEngine().getCallbackRegistry();
+
+		PgCopyWriter writer = copyWriter();
+		int chunkSize = copyChunkSize();
+
+		StringBuilder rows = new StringBuilder();
+		int buffered = 0;
+		long inserted = 0;
+
+		for (ENTITY entity : entities) {
+
+			prepareForNativeInsert(entity, createdBy, callbacks);
+
+			// Id generation uses the connection → rows are encoded before the COPY starts
+			writer.appendRow(rows, entity, session);
+
+			if (++buffered == chunkSize) {
+				inserted += session.doReturningWork(connection -> writer.copy(connection, rows));
+				rows.setLength(0);
+				buffered = 0;
+			}
+		}
+
+		if (buffered > 0) {
+			inserted += session.doReturningWork(connection -> writer.copy(connection, rows));
+		}
+
+		afterBulkDml();
+
+		return inserted;
+	}
+
+	private void prepareForNativeInsert(ENTITY entity, long createdBy, CallbackRegistry callbacks) {
+
+		entity.setCreatedBy(createdBy);
+		entity.setUpdatedBy(createdBy);
+
+		callbacks.preCreate(entity);
+
+		// Auditing listener not active (e.g. plain Hibernate bootstrap) → same defaults
+		LocalDateTime now = LocalDateTime.now();
+		if (entity.getCreatedDate() == null) {
+			entity.setCreatedDate(now);
+		}
+		if (entity.getUpdatedDate() == null) {
+			entity.setUpdatedDate(now);
+		}
+	}
+
+	/**
+	 * Inserts, or resolves conflicts on a declared unique constraint, in multi-row
+	 * {@code INSERT ... ON CONFLICT ON CONSTRAINT ...} statements — one per batch,
+	 * no pre-check queries.
+	 *
+	 * <p>
+	 * Rows are prepared like {@link #copyInsert} with {@code actorId} as creator / updater.
+	 * On conflict only {@link UpsertSpec#getUpdateProperties()} plus
+	 * {@code updatedBy} / {@code updatedDate} are overwritten; {@code createdBy} /
+	 * {@code createdDate} of the existing row are kept.
+	 * </p>
+	 *
+	 * <p>
+	 * STRICT:
+	 * <ul>
+	 *   <li>The constraint must be declared in the entity's {@code @Table(uniqueConstraints)}.</li>
+	 *   <li>DO UPDATE: rows repeating a conflict key within one batch are merged, the last one wins
+	 *   (PostgreSQL rejects updating a row twice in one statement). Keys with a {@code null}
+	 *   column never conflict and are kept as they are.</li>
+	 *   <li>Entity ids are not written back (a conflicting row keeps its existing id).</li>
+	 *   <li>Persistence context is cleared afterwards ({@link #afterBulkDml()}).</li>
+	 * </ul>
+	 * </p>
+	 *
+	 * @return rows inserted or updated (DO NOTHING conflicts are not counted)
+	 */
+	@Override
+	public long upsert(Iterable<? extends ENTITY> entities, UpsertSpec spec, long actorId) {
+
+		assertInitialized();
+		Assert.notNull(entities, "Entities must not be null");
+		Assert.notNull(spec, "UpsertSpec must not be null");
+
+		if (!IS_POSTGRES_DB) {
+			throw new IllegalStateException("upsert requires PostgreSQL (IS_POSTGRES_DB = true).");
+		}
+
+		UniqueConstraint constraint = declaredUniqueConstraint(spec.getConstraintName());
+
+		Assert.state(
+				TransactionSynchronizationManager.isActualTransactionActive(),
+				"upsert requires an active transaction."
+		);
+
+		entityManager.flush();
+
+		SharedSessionContractImplementor session =
+				entityManager.unwrap(SharedSessionContractImplementor.class);
+
+		CallbackRegistry callbacks =
+				session.getFactory().getEventEngine().getCallbackRegistry();
+
+		EntityRowPlan plan = rowPlan();
+		PgUpsertWriter writer = new PgUpsertWriter(plan, spec);
+		int batchSize = Math.min(upsertBatchSize(), writer.maxBatchRows());
+
+		// DO UPDATE: one row per conflict key and batch (insertion order of the first occurrence)
+		int[] keyColumns = spec.isDoNothing() ? null : conflictKeyColumns(plan, constraint);
+
+		Map<Object, Object[]> batch = new LinkedHashMap<>(batchSize * 2);
+		long affected = 0;
+
+		for (ENTITY entity : entities) {
+
+			prepareForNativeInsert(entity, actorId, callbacks);
+
+			Object[] row = plan.values(entity, session, false);
+			batch.put(conflictKey(row, keyColumns), row);
+
+			if (batch.size() == batchSize) {
+				List<Object[]> rows = new ArrayList<>(batch.values());
+				affected += session.doReturningWork(connection -> writer.execute(connection, rows));
+				batch.clear();
+			}
+		}
+
+		if (!batch.isEmpty()) {
+			List<Object[]> rows = new ArrayList<>(batch.values());
+			affected += session.doReturningWork(connection -> writer.execute(connection, rows));
+		}
+
+		afterBulkDml();
+
+		return affected;
+	}
+
+	private UniqueConstraint declaredUniqueConstraint(String constraintName) {
+
+		Table table = domainClass.getAnnotation(Table.class);
+
+		if (table != null) {
+			for (UniqueConstraint uc : table.uniqueConstraints()) {
+				if (constraintName.equals(uc.name())) {
+					return uc;
+				}
+			}
+		}
+
+		throw new IllegalArgumentException(
+				"Unique constraint '" + constraintName + "' is not declared on " +
+						domainClass.getSimpleName() + " @Table(uniqueConstraints)"
+		);
+	}
+
+	/**
+	 * Positions of the constraint's columns in {@link EntityRowPlan#columns()}.
+	 */
+	private static int[] conflictKeyColumns(EntityRowPlan plan, UniqueConstraint constraint) {
+
+		List<String> columns = plan.columns();
+		int[] positions = new int[constraint.columnNames().length];
+
+		for (int i = 0; i < positions.length; i++) {
+
+			String name = constraint.columnNames()[i];
+			int position = -1;
+
+			for (int c = 0; c < columns.size(); c++) {
+				if (columns.get(c).equalsIgnoreCase(name)) {
+					position = c;
+					break;
+				}
+			}
+
+			if (position < 0) {
+				throw new IllegalArgumentException(
+						"Unique constraint '" + constraint.name() + "' column '" + name +
+								"' is not an insertable column of " + plan.tableName()
+				);
+			}
+
+			positions[i] = position;
+		}
+
+		return positions;
+	}
+
+	/**
+	 * Batch key of a row: its conflict-key values, or a unique key when rows must not be merged
+	 * (DO NOTHING, or a {@code null} key column — NULLs never conflict).
+	 */
+	private static Object conflictKey(Object[] row, int[] keyColumns) {
+
+		if (keyColumns == null) {
+			return new Object();
+		}
+
+		Object[] key = new Object[keyColumns.length];
+
+		for (int i = 0; i < keyColumns.length; i++) {
+			key[i] = row[keyColumns[i]];
+			if (key[i] == null) {
+				return new Object();
+			}
+		}
+
+		return Arrays.asList(key);
+	}
+
+	private PgCopyWriter copyWriter() {
+
+		PgCopyWriter writer = pgCopyWriter;
+		if (writer == null) {
+			writer = new PgCopyWriter(rowPlan());
+			pgCopyWriter = writer;
+		}
+		return writer;
+	}
+
+	private AbstractEntityPersister entityPersister() {
+
+		EntityPersister persister = entityManager.getEntityManagerFactory()
+				.unwrap(SessionFactoryImplementor.class)
+				.getMappingMetamodel()
+				.getEntityDescriptor(domainClass);
+
+		if (!(persister instanceof AbstractEntityPersister entityPersister)) {
+			throw new IllegalStateException(
+					"Table mapping unavailable for " + domainClass.getName() +
+							" (persister=" + persister.getClass().getName() + ")"
+			);
+		}
+
+		return entityPersister;
+	}
+
+	private EntityRowPlan rowPlan() {
+
+		EntityRowPlan plan = entityRowPlan;
+		if (plan != null) {
+			return plan;
+		}
+
+		plan = new EntityRowPlan(
+				entityPersister(),
+				entityManager.getEntityManagerFactory().getPersistenceUnitUtil()
+		);
+		entityRowPlan = plan;
+		return plan;
+	}
+
 	// ----------------------------------------------------------------------
 	// BULK OPERATIONS (ID-FIRST, SAFE)
 	// ----------------------------------------------------------------------
@@ -743,17 +2594,30 @@ public abstract class AbstractRepositoryImpl<
 		EntityPathBase<E> typedPath =
 				(EntityPathBase<E>) path;
 
+		// ------------------------------------------------------------
+		// SET-BASED — single UPDATE ... WHERE id IN (subquery)
+		// ------------------------------------------------------------
+		if (bulkDmlMode() == BulkDmlMode.SET_BASED) {
+
+			JPAUpdateClause update =
+					queryFactory.update(typedPath);
+
+			applyAudit(update, updatedBy);
+			spec.apply(update, typedPath);
+
+			long affected = update
+					.where(idExpr.in(bulkIdSubquery(criteria, "updateByCriteria.idSubquery")))
+					.execute();
+
+			afterBulkDml();
+
+			return affected;
+		}
+
 		// STRICT:
 		// Bulk DML must not depend on join-fetch graphs or unsafe ordering.
 		// This method updates by ID chunks derived from the same deterministic ID selection.
-		List<ID> ids = findIds(criteria);
-		if (ids.isEmpty()) {
-			return 0;
-		}
-
-		long affected = 0;
-
-		for (List<ID> chunk : chunk(ids, bulkInChunkSize())) {
+		long affected = forEachIdChunk(criteria, chunk -> {
 
 			JPAUpdateClause update =
 					queryFactory.update(typedPath);
@@ -761,11 +2625,12 @@ public abstract class AbstractRepositoryImpl<
 			applyAudit(update, updatedBy);
 			spec.apply(update, typedPath);
 
-			affected +=
-					update.where(idExpr.in(chunk)).execute();
-		}
+			return update.where(chunk).execute();
+		});
 
-		afterBulkDml();
+		if (affected > 0) {
+			afterBulkDml();
+		}
 
 		return affected;
 	}
@@ -795,29 +2660,59 @@ public abstract class AbstractRepositoryImpl<
 		assertInitialized();
 		Assert.notNull(criteria, "Criteria must not be null");
 
-		// STRICT: ID-first delete avoids join side effects.
-		List<ID> ids = findIds(criteria);
-		if (ids.isEmpty()) {
-			return 0;
-		}
-
-		long affected = 0;
+		// ------------------------------------------------------------
+		// SET-BASED — single DELETE ... WHERE id IN (subquery)
+		// ------------------------------------------------------------
+		if (bulkDmlMode() == BulkDmlMode.SET_BASED) {
 
-		for (List<ID> chunk : chunk(ids, bulkInChunkSize())) {
-			affected += queryFactory
+			long affected = queryFactory
 					.delete(path)
-					.where(idExpr.in(chunk))
+					.where(idExpr.in(bulkIdSubquery(criteria, "deleteByCriteria.idSubquery")))
 					.execute();
+
+			afterBulkDml();
+
+			return affected;
 		}
 
-		afterBulkDml();
+		// STRICT: ID-first delete avoids join side effects.
+		long affected = forEachIdChunk(criteria, chunk ->
+				queryFactory
+						.delete(path)
+						.where(chunk)
+						.execute()
+		);
+
+		if (affected > 0) {
+			afterBulkDml();
+		}
 
 		return affected;
 	}
 
+	/**
+	 * Query whose fetch graph is an already resolved plan (e.g. one collection branch).
+	 */
+	private AbstractJPAQuery<?, ?> createQuery(
+			Predicate predicate,
+			FetchGraphPlan plan) {
+
+		return createQuery(predicate, getRelatedDataHints(plan));
+	}
+
 	protected AbstractJPAQuery<?, ?> createQuery(
 			Predicate predicate,
-			String... hints) {
+			String... hints) {
+
+		return createQuery(predicate, getRelatedDataHints(hints));
+	}
+
+	/**
+	 * Root query shared by both {@code createQuery} overloads: filter plus fetch-graph hints.
+	 */
+	private AbstractJPAQuery<?, ?> createQuery(
+			Predicate predicate,
+			QueryHints qh) {
 
 		AbstractJPAQuery<?, ?> query =
 				querydsl.createQuery(path);
@@ -826,7 +2721,6 @@ public abstract class AbstractRepositoryImpl<
 			query.where(predicate);
 		}
 
-		QueryHints qh = getRelatedDataHints(hints);
 		if (qh != null) {
 			qh.forEach(query::setHint);
 		}
@@ -834,9 +2728,86 @@ public abstract class AbstractRepositoryImpl<
 		return query;
 	}
 
+	/**
+	 * Criteria ID selection as a subquery for set-based bulk DML.
+	 *
+	 * <p>
+	 * The filter is built on a separate alias of the root ({@link #bulkSubqueryPath()}),
+	 * so the DML target and the subquery root never share an identification variable:
+	 * <pre>
+	 * update Role role set ... where role.id in (select role_bulk.id from Role role_bulk where ...)
+	 * </pre>
+	 * </p>
+	 *
+	 * <p>
+	 * STRICT: same join-free rule as the phase-1 ID queries.
+	 * </p>
+	 */
+	protected JPQLQuery<ID> bulkIdSubquery(CRITERIA criteria, String context) {
+
+		QCLAZZ alias = bulkSubqueryPath();
+
+		SimpleExpression<ID> aliasId = Expressions.simplePath(
+				idClass,
+				alias,
+				((Path<?>) idExpr).getMetadata().getName()
+		);
+
+		JPQLQuery<ID> subquery =
+				JPAExpressions.select(aliasId).from(alias);
+
+		Predicate filter = criteria.getFilter(alias);
+		if (filter != null) {
+			subquery.where(filter);
+		}
+
+		assertNoAdditionalJoins(subquery.getMetadata(), alias, context);
+
+		return subquery;
+	}
+
+	/**
+	 * Second instance of the root Q-type under the alias {@code <root>_bulk}.
+	 *
+	 * <p>
+	 * Created through the generated {@code QType(String variable)} constructor.
+	 * </p>
+	 */
+	protected QCLAZZ bulkSubqueryPath() {
+
+		QCLAZZ alias = bulkPath;
+		if (alias != null) {
+			return alias;
+		}
+
+		String variable = path.getMetadata().getName() + "_bulk";
+
+		try {
+			@SuppressWarnings("unchecked")
+			QCLAZZ created = (QCLAZZ) path.getClass()
+					.getConstructor(String.class)
+					.newInstance(variable);
+			bulkPath = created;
+			return created;
+		}
+		catch (ReflectiveOperationException e) {
+			throw new IllegalStateException(
+					"Cannot create alias '" + variable + "' for " + path.getClass().getName() +
+							". Override bulkSubqueryPath() or use BulkDmlMode.ID_CHUNKS.", e
+			);
+		}
+	}
+
 	protected void assertNoAdditionalJoins(AbstractJPAQuery<?, ?> query, String context) {
+		assertNoAdditionalJoins(query.getMetadata(), path, context);
+	}
 
-		List<JoinExpression> joins = query.getMetadata().getJoins();
+	protected void assertNoAdditionalJoins(
+			QueryMetadata metadata,
+			EntityPath<?> expectedRoot,
+			String context) {
+
+		List<JoinExpression> joins = metadata.getJoins();
 		if (joins == null || joins.isEmpty()) {
 			return;
 		}
@@ -850,9 +2821,9 @@ public abstract class AbstractRepositoryImpl<
 		}
 
 		JoinExpression root = joins.getFirst();
-		if (!Objects.equals(root.getTarget(), path)) {
+		if (!Objects.equals(root.getTarget(), expectedRoot)) {
 			throw new IllegalStateException(
-					"Unexpected join root in " + context + ". Expected " + path + " but found " + root.getTarget()
+					"Unexpected join root in " + context + ". Expected " + expectedRoot + " but found " + root.getTarget()
 			);
 		}
 	}
@@ -860,6 +2831,9 @@ public abstract class AbstractRepositoryImpl<
 	protected final void afterBulkDml() {
 		entityManager.flush();
 		entityManager.clear();
+
+		// Bulk HQL / native writes raise no entity events
+		EntityWriteEpochs.written(domainClass);
 	}
 
 	// ----------------------------------------------------------------------
@@ -976,49 +2950,74 @@ public abstract class AbstractRepositoryImpl<
 	protected void applySort(JPQLQuery<?> query, CRITERIA criteria) {
 
 		List<OrderSpecifier<?>> orderSpecifiers =
-				criteria.resolveOrderSpecifiers(path);
+				resolveCriteriaOrder(criteria);
 
 		if (orderSpecifiers == null || orderSpecifiers.isEmpty()) {
 			return;
 		}
 
+		query.orderBy(orderSpecifiers.toArray(new OrderSpecifier<?>[0]));
+	}
+
+	/**
+	 * Criteria order, validated.
+	 *
+	 * <p>
+	 * String sort keys resolve through {@link #sortKeyRegistry} (validated once at startup,
+	 * one map lookup per key). Java-side {@code OrderSpecifier}s are arbitrary expressions
+	 * and are checked by {@link #validateSortSafety} on every call.
+	 * </p>
+	 */
+	protected List<OrderSpecifier<?>> resolveCriteriaOrder(CRITERIA criteria) {
+
+		List<OrderSpecifier<?>> specs =
+				criteria.resolveOrderSpecifiers(sortKeyRegistry);
+
 		// 🔒 STRICT FAIL FAST — prevent pagination-unsafe sorting
-		validateSortSafety(orderSpecifiers);
+		if (criteria.hasExplicitOrderSpecifiers()) {
+			validateSortSafety(specs);
+		}
 
-		query.orderBy(orderSpecifiers.toArray(new OrderSpecifier<?>[0]));
+		return specs;
 	}
 
 	protected void applySortOrDefaultById(
 			JPQLQuery<?> query,
 			CRITERIA criteria) {
 
+		query.orderBy(
+				resolveDeterministicOrder(criteria).toArray(new OrderSpecifier<?>[0])
+		);
+	}
+
+	/**
+	 * Resolves the validated, TOTAL ordering used for paging:
+	 * criteria sort + ID tiebreaker (unless the sort already contains the ID).
+	 */
+	protected List<OrderSpecifier<?>> resolveDeterministicOrder(CRITERIA criteria) {
+
 		List<OrderSpecifier<?>> specs =
-				criteria.resolveOrderSpecifiers(path);
+				resolveCriteriaOrder(criteria);
 
 		// No sort provided → deterministic default
 		if (specs == null || specs.isEmpty()) {
-			query.orderBy(idAscOrder);
-			return;
+			return List.of(idAscOrder);
 		}
 
-		// Fail fast on unsafe ORDER BY
-		validateSortSafety(specs);
-
 		// Always enforce TOTAL ordering
 		boolean hasIdOrder = specs.stream()
 				.anyMatch(o -> o.getTarget().equals(idExpr));
 
-		if (!hasIdOrder) {
-			List<OrderSpecifier<?>> withTieBreaker =
-					new ArrayList<>(specs.size() + 1);
-			withTieBreaker.addAll(specs);
-			withTieBreaker.add(idAscOrder);
-
-			query.orderBy(withTieBreaker.toArray(new OrderSpecifier<?>[0]));
-		}
-		else {
-			query.orderBy(specs.toArray(new OrderSpecifier<?>[0]));
+		if (hasIdOrder) {
+			return specs;
 		}
+
+		List<OrderSpecifier<?>> withTieBreaker =
+				new ArrayList<>(specs.size() + 1);
+		withTieBreaker.addAll(specs);
+		withTieBreaker.add(idAscOrder);
+
+		return withTieBreaker;
 	}
 
 	/**
@@ -1028,8 +3027,8 @@ public abstract class AbstractRepositoryImpl<
 	 * STRICT:
 	 * <ul>
 	 *   <li>If PostgreSQL: reapply original ORDER BY (same as phase 1).</li>
-	 *   <li>If non-Postgres: preserve phase-1 order with CASE ordering.</li>
-	 *   <li>No silent fallback. If CASE would exceed safe bounds, throw.</li>
+	 *   <li>If non-Postgres: no ORDER BY; {@link #orderedRoots} restores the
+	 *       phase-1 order in memory (no page-size bound, no CASE SQL).</li>
 	 * </ul>
 	 * </p>
 	 */
@@ -1041,219 +3040,200 @@ public abstract class AbstractRepositoryImpl<
 		if (IS_POSTGRES_DB) {
 			// PostgreSQL: reapply ORDER BY safely (same as phase 1)
 			applySortOrDefaultById(entityQuery, criteria);
-			return;
 		}
-
-		// Non-Postgres: preserve phase-1 ID order explicitly
-		applyIdOrder(entityQuery, ids);
-	}
-
-	protected int bulkInChunkSize() {
-		return 1000;
 	}
 
 	/**
-	 * Preserves ID order explicitly using CASE expressions.
+	 * Distinct phase-2 roots in phase-1 order.
 	 *
-	 * <p>
-	 * Used only for non-Postgres databases.
-	 * Page size bounds the SQL complexity.
-	 * </p>
+	 * <ul>
+	 *   <li>PostgreSQL: rows already follow the reapplied ORDER BY → first-occurrence dedup.</li>
+	 *   <li>Other databases: the phase-2 query is unordered → O(n) reorder by each
+	 *       root's position in {@code ids} (dedups as well).</li>
+	 * </ul>
 	 *
 	 * <p>
-	 * STRICT:
-	 * If the page is too large to safely express as CASE, this method throws.
-	 * There is no "unordered fetch" fallback, because that would break determinism.
+	 * IDs without a row are skipped; callers that require all of them check the size.
 	 * </p>
 	 */
-	protected void applyIdOrder(
-			JPQLQuery<?> query,
-			List<ID> ids) {
+	protected List<ENTITY> orderedRoots(List<ENTITY> rows, List<ID> ids) {
 
-		if (ids == null || ids.isEmpty()) {
-			return;
-		}
-
-		if (ids.size() > maxCaseOrderIds()) {
-			throw new IllegalStateException(
-					"ID-order CASE too large (" + ids.size() + "). " +
-							"Reduce page size or use PostgreSQL ordering mode."
-			);
+		if (IS_POSTGRES_DB) {
+			return distinctRoots(rows);
 		}
 
-		CaseBuilder cb = new CaseBuilder();
-		CaseBuilder.Cases<Integer, NumberExpression<Integer>> cases = null;
+		if (idClass == Long.class) {
 
-		int index = 0;
-		for (ID id : ids) {
-			if (cases == null) {
-				cases = cb.when(idExpr.eq(id)).then(index++);
-			}
-			else {
-				cases = cases.when(idExpr.eq(id)).then(index++);
+			LongIndexMap positions = new LongIndexMap(ids.size());
+			for (int i = 0; i < ids.size(); i++) {
+				positions.putIfAbsent((Long) ids.get(i), i);
 			}
+
+			return inPositionOrder(rows, positions, ids.size());
 		}
 
-		assert cases != null;
-		query.orderBy(
-				cases.otherwise(Integer.MAX_VALUE).asc()
-		);
-	}
+		Map<ID, Integer> positions = new HashMap<>(ids.size() * 2);
+		for (int i = 0; i < ids.size(); i++) {
+			positions.putIfAbsent(ids.get(i), i);
+		}
 
-	// ----------------------------------------------------------------------
-	// STABLE ORDERING AFTER ID PAGING
-	// ----------------------------------------------------------------------
+		Object[] slots = new Object[ids.size()];
+		for (ENTITY e : rows) {
+			Integer position = positions.get(idClass.cast(e.getId()));
+			if (position != null && slots[position] == null) {
+				slots[position] = e;
+			}
+		}
 
-	/**
-	 * Maximum number of IDs allowed in CASE ordering for non-Postgres databases.
-	 *
-	 * <p>
-	 * STRICT:
-	 * This bound prevents generating pathological SQL and protects query planners.
-	 * Exceeding this limit is a caller contract violation and results in an exception.
-	 * </p>
-	 */
-	protected int maxCaseOrderIds() {
-		return 200;
+		return filledSlots(slots);
 	}
 
 	/**
-	 * Detects whether the requested fetch graph contains any collection-valued attribute.
-	 *
-	 * <p>
-	 * STRICT:
-	 * <ul>
-	 *   <li>If the fetch graph contains collections, paging must be ID-first.</li>
-	 *   <li>This method does NOT “fix” duplicates or attempt DISTINCT.</li>
-	 *   <li>It only determines the safe query strategy.</li>
-	 * </ul>
-	 * </p>
+	 * Places each row at its ID's position (first occurrence wins) and drops empty positions.
 	 */
-	protected boolean fetchGraphContainsCollection(String... hints) {
-
-		if (hints == null || hints.length == 0) {
-			return false;
-		}
+	private List<ENTITY> inPositionOrder(List<ENTITY> rows, LongIndexMap positions, int size) {
 
-		EntityType<?> rootType =
-				entityManager.getMetamodel().entity(path.getType());
+		Object[] slots = new Object[size];
 
-		for (String hint : hints) {
-			String spec = normalizeGraphSpec(hint, rootType.getJavaType().getSimpleName());
-			if (containsCollection(rootType, spec)) {
-				return true;
+		for (ENTITY e : rows) {
+			int position = positions.get(e.getId());
+			if (position >= 0 && slots[position] == null) {
+				slots[position] = e;
 			}
 		}
 
-		return false;
+		return filledSlots(slots);
 	}
 
-	private boolean containsCollection(
-			ManagedType<?> type,
-			String spec) {
-
-		if (spec == null || spec.isBlank()) {
-			return false;
-		}
-
-		for (String token : splitTopLevel(spec)) {
-
-			if (token.isEmpty()) {
-				continue;
-			}
-
-			int paren = token.indexOf('(');
-
-			if (paren < 0) {
-				Attribute<?, ?> attr = validateAttribute(type, token);
-				if (attr.isCollection()) {
-					return true;
-				}
-				continue;
-			}
-
-			String attrName = token.substring(0, paren).trim();
-			String nested = token.substring(paren + 1, token.length() - 1).trim();
-
-			Attribute<?, ?> attr = validateAttribute(type, attrName);
-
-			if (attr.isCollection()) {
-				return true;
-			}
+	private List<ENTITY> filledSlots(Object[] slots) {
 
-			ManagedType<?> nestedType = resolveManagedType(attr);
-			if (containsCollection(nestedType, nested)) {
-				return true;
+		List<ENTITY> content = new ArrayList<>(slots.length);
+		for (Object slot : slots) {
+			if (slot != null) {
+				content.add(domainClass.cast(slot));
 			}
 		}
 
-		return false;
+		return content;
 	}
 
-	private boolean containsCollectionAttribute(
-			ManagedType<?> rootType,
-			String graph) {
-
-		if (graph == null || graph.isBlank()) {
-			return false;
-		}
-
-		// Strip outer entity name if present: Role(...)
-		int start = graph.indexOf('(');
-		int end = graph.lastIndexOf(')');
-		if (start >= 0 && end > start) {
-			graph = graph.substring(start + 1, end);
-		}
-
-		return walkAttributes(rootType, graph);
+	protected int bulkInChunkSize() {
+		return 1000;
 	}
 
-	private boolean walkAttributes(
-			ManagedType<?> type,
-			String pathExpr) {
+	/**
+	 * Rows per COPY statement in {@link #copyInsert}.
+	 * Bounds the encoded buffer; larger chunks mean fewer round trips.
+	 */
+	protected int copyChunkSize() {
+		return 10_000;
+	}
 
-		int idx = 0;
-		while (idx < pathExpr.length()) {
+	/**
+	 * Rows per {@code INSERT ... ON CONFLICT} statement in {@link #upsert}
+	 * (further capped by the 65 535 bind-parameter limit).
+	 */
+	protected int upsertBatchSize() {
+		return 500;
+	}
 
-			int nextParen = pathExpr.indexOf('(', idx);
-			int nextComma = pathExpr.indexOf(',', idx);
+	/**
+	 * JDBC fetch size of the streaming ID cursor.
+	 *
+	 * <p>
+	 * Defaults to the configured {@code hibernate.jdbc.fetch_size}.
+	 * PostgreSQL only streams (instead of buffering the whole result) when the
+	 * fetch size is positive and the connection is not in auto-commit.
+	 * </p>
+	 */
+	protected int streamFetchSize() {
+		return jdbcFetchSize;
+	}
 
-			int end = minPositive(nextParen, nextComma, pathExpr.length());
-			if (end < 0) {
-				end = pathExpr.length();
-			}
+	/**
+	 * Lifetime of memoized exact counts (same filter, paging ignored).
+	 *
+	 * <p>
+	 * Entries are dropped as soon as any entity type read by the filter is written
+	 * in this JVM; the TTL bounds staleness from other nodes and database-side cascades.
+	 * {@link Duration#ZERO} disables the cache.
+	 * </p>
+	 */
+	protected Duration countCacheTtl() {
+		return Duration.ofSeconds(30);
+	}
 
-			String attrName = pathExpr.substring(idx, end).trim();
+	/**
+	 * SNAPSHOT paging: most IDs materialized per search; larger results are truncated
+	 * (pages beyond come back empty, {@code totalExact == false}).
+	 */
+	protected int snapshotMaxIds() {
+		return 100_000;
+	}
 
-			if (!attrName.isEmpty()) {
-				Attribute<?, ?> attr = type.getAttribute(attrName);
+	/**
+	 * SNAPSHOT paging: idle lifetime of a snapshot (extended on every page read).
+	 */
+	protected Duration snapshotTtl() {
+		return Duration.ofMinutes(10);
+	}
 
-				// 🔥 THIS is the real check
-				if (attr.isCollection()) {
-					return true;
-				}
+	/**
+	 * How findByPaging obtains the total for OFFSET pages.
+	 *
+	 * <p>
+	 * Default {@link TotalCountStrategy#WINDOW_FUNCTION}: one statement, one filter evaluation.
+	 * Override with {@link TotalCountStrategy#SEPARATE_QUERY} for tables where the
+	 * filtered set is huge and an index-ordered LIMIT scan plus a separate COUNT is cheaper
+	 * than materializing the whole filtered set for the window.
+	 * </p>
+	 */
+	protected TotalCountStrategy totalCountStrategy() {
+		return TotalCountStrategy.WINDOW_FUNCTION;
+	}
 
-				if (attr instanceof SingularAttribute<?, ?> sa) {
-					if (sa.getType() instanceof ManagedType<?> mt) {
-						type = mt;
-					}
-				}
-			}
+	/**
+	 * How phase 2 loads fetch graphs with several collections.
+	 *
+	 * <p>
+	 * Default {@link CollectionFetchMode#SPLIT}: e.g.
+	 * {@code "Role(roleActions(action),administratorRoles(administrator))"} runs one query
+	 * for {@code roleActions(action)} and one for {@code administratorRoles(administrator)}
+	 * instead of joining both (rows = sum of the collection sizes, not their product).
+	 * Needs an active transaction (shared persistence context); otherwise JOINED is used.
+	 * </p>
+	 */
+	protected CollectionFetchMode collectionFetchMode() {
+		return CollectionFetchMode.SPLIT;
+	}
 
-			if (nextParen >= 0 && nextParen == end) {
-				int close = findMatchingParen(pathExpr, nextParen);
-				String nested = pathExpr.substring(nextParen + 1, close);
-				if (walkAttributes(type, nested)) {
-					return true;
-				}
-				idx = close + 1;
-			}
-			else {
-				idx = end + 1;
-			}
-		}
+	/**
+	 * How updateByCriteria / deleteByCriteria select their rows.
+	 *
+	 * <p>
+	 * Default {@link BulkDmlMode#SET_BASED} on PostgreSQL: one statement, no IDs on the heap.
+	 * {@link BulkDmlMode#ID_CHUNKS} is kept for databases that reject a subquery on the
+	 * DML target table (e.g. MySQL).
+	 * </p>
+	 */
+	protected BulkDmlMode bulkDmlMode() {
+		return IS_POSTGRES_DB ? BulkDmlMode.SET_BASED : BulkDmlMode.ID_CHUNKS;
+	}
 
-		return false;
+	/**
+	 * Detects whether the requested fetch graph contains any collection-valued attribute.
+	 *
+	 * <p>
+	 * STRICT:
+	 * <ul>
+	 *   <li>If the fetch graph contains collections, paging must be ID-first.</li>
+	 *   <li>This method does NOT “fix” duplicates or attempt DISTINCT.</li>
+	 *   <li>It only determines the safe query strategy.</li>
+	 * </ul>
+	 * </p>
+	 */
+	protected boolean fetchGraphContainsCollection(String... hints) {
+		return resolveFetchGraphPlan(hints).containsCollection();
 	}
 
 	private List<String> splitTopLevel(String spec) {
@@ -1284,36 +3264,6 @@ public abstract class AbstractRepositoryImpl<
 		return result;
 	}
 
-	// ----------------------------------------------------------------------
-	// FETCH GRAPH INTROSPECTION (STRICT TRIGGER ONLY)
-	// ----------------------------------------------------------------------
-
-	private int minPositive(int... values) {
-		int min = Integer.MAX_VALUE;
-		for (int v : values) {
-			if (v >= 0 && v < min) {
-				min = v;
-			}
-		}
-		return min == Integer.MAX_VALUE ? -1 : min;
-	}
-
-	private int findMatchingParen(String s, int open) {
-		int depth = 1;
-		for (int i = open + 1; i < s.length(); i++) {
-			if (s.charAt(i) == '(') {
-				depth++;
-			}
-			if (s.charAt(i) == ')') {
-				depth--;
-			}
-			if (depth == 0) {
-				return i;
-			}
-		}
-		throw new IllegalArgumentException("Unbalanced parentheses in graph: " + s);
-	}
-
 	private QAbstractEntity resolveAuditPath(EntityPath<?> p) {
 
 		if (p instanceof QAbstractEntity qa) {
@@ -1335,6 +3285,62 @@ public abstract class AbstractRepositoryImpl<
 		);
 	}
 
+	/**
+	 * Total-count strategy for OFFSET paging.
+	 */
+	protected enum TotalCountStrategy {
+		/**
+		 * Page query followed by {@code count(criteria)} (two round trips).
+		 */
+		SEPARATE_QUERY,
+		/**
+		 * {@code count(*) over()} selected by the page query itself.
+		 * Falls back to a separate count when the page is empty.
+		 */
+		WINDOW_FUNCTION
+	}
+
+	/**
+	 * Row selection strategy for criteria-based bulk DML.
+	 */
+	protected enum BulkDmlMode {
+		/**
+		 * {@code findIds(criteria)} then one statement per {@code bulkInChunkSize()} IDs.
+		 */
+		ID_CHUNKS,
+		/**
+		 * Single statement: {@code ... WHERE id IN (select id ... where <criteria>)}.
+		 */
+		SET_BASED
+	}
+
+	/**
+	 * Phase-2 loading of collection-valued fetch graphs.
+	 */
+	protected enum CollectionFetchMode {
+		/**
+		 * One query with the whole fetch graph. Sibling collections multiply rows.
+		 */
+		JOINED,
+		/**
+		 * One query per {@link FetchGraphPlan#branches() collection branch} over the same root IDs;
+		 * the persistence context stitches the collections into the already loaded roots.
+		 */
+		SPLIT
+	}
+
+	/**
+	 * Page total and whether it is exact (CAPPED / ESTIMATE → not exact).
+	 */
+	protected record PageTotal(long value, boolean exact) {
+	}
+
+	/**
+	 * Phase-1 result: ordered page IDs and, if requested, the window total.
+	 */
+	protected record IdPage<I>(List<I> ids, Long total) {
+	}
+
 	protected interface GraphContainer {
 		void addAttribute(String attribute);
 
@@ -0,0 +1,99 @@
+package com.tamantaw.projectx.persistence.repository.base;
+
+import com.querydsl.core.types.Predicate;
+
+import java.time.Duration;
+import java.util.*;
+
+/**
+ * Short-lived memo of filtered totals for one repository.
+ *
+ * <p>
+ * Key: a canonical rendering of the filter {@link Predicate} (criteria filter
+ * fields and nested sub-criteria; paging never reaches the predicate).
+ * Dependencies: every entity type the predicate reads, including EXISTS subqueries.
+ * An entry is used only while its TTL holds and none of those types has been
+ * written ({@link EntityWriteEpochs}).
+ * </p>
+ *
+ * <p>
+ * Writes from other JVMs or database-side cascades are not observed:
+ * the TTL is the only bound on their staleness.
+ * </p>
+ */
+final class CountCache {
+
+	private final Duration ttl;
+	private final Map<String, Entry> entries;
+
+	CountCache(Duration ttl, int maxEntries) {
+		this.ttl = ttl;
+		this.entries = Collections.synchronizedMap(new LinkedHashMap<>(16, 0.75f, true) {
+			@Override
+			protected boolean removeEldestEntry(Map.Entry<String, Entry> eldest) {
+				return size() > maxEntries;
+			}
+		});
+	}
+
+	/**
+	 * Snapshots the dependency epochs now: a count stored through the probe
+	 * is discarded if any dependency was written while it was computed.
+	 */
+	Probe probe(Predicate filter, Class<?> rootType) {
+
+		PredicateFingerprint fingerprint = PredicateFingerprint.of(filter);
+
+		Set<Class<?>> types = new LinkedHashSet<>(fingerprint.entityTypes());
+		types.add(rootType);
+
+		List<Class<?>> dependsOn = List.copyOf(types);
+
+		return new Probe(fingerprint.key(), dependsOn, EntityWriteEpochs.sum(dependsOn));
+	}
+
+	private record Entry(long count, long epoch, long expiresAtNanos) {
+	}
+
+	final class Probe {
+
+		private final String key;
+		private final List<Class<?>> dependsOn;
+		private final long epoch;
+
+		private Probe(String key, List<Class<?>> dependsOn, long epoch) {
+			this.key = key;
+			this.dependsOn = dependsOn;
+			this.epoch = epoch;
+		}
+
+		/**
+		 * @return the memoized count, or {@code null}
+		 */
+		Long cached() {
+
+			Entry entry = entries.get(key);
+
+			if (entry == null) {
+				return null;
+			}
+
+			if (entry.expiresAtNanos() - System.nanoTime() <= 0
+					|| entry.epoch() != EntityWriteEpochs.sum(dependsOn)) {
+				entries.remove(key);
+				return null;
+			}
+
+			return entry.count();
+		}
+
+		void store(long count) {
+
+			if (epoch != EntityWriteEpochs.sum(dependsOn)) {
+				return; // written meanwhile → the count may already be stale
+			}
+
+			entries.put(key, new Entry(count, epoch, System.nanoTime() + ttl.toNanos()));
+		}
+	}
+}
@@ -0,0 +1,166 @@
+package com.tamantaw.projectx.persistence.repository.base;
+
+import jakarta.persistence.PersistenceUnitUtil;
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.hibernate.generator.BeforeExecutionGenerator;
+import org.hibernate.generator.EventType;
+import org.hibernate.generator.Generator;
+import org.hibernate.persister.entity.AbstractEntityPersister;
+import org.hibernate.type.BasicType;
+import org.hibernate.type.EntityType;
+import org.hibernate.type.Type;
+import org.hibernate.type.descriptor.converter.spi.BasicValueConverter;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Insert column plan of one entity, derived once from the Hibernate entity persister.
+ *
+ * <p>
+ * Columns:
+ * <ul>
+ *   <li>identifier column — only when ids are generated before insert (sequence)</li>
+ *   <li>every insertable single-column property (basic / to-one FK)</li>
+ *   <li>collections and {@code insertable = false} mirrors are skipped</li>
+ * </ul>
+ * Values are produced in relational form (converters applied, to-one → FK id,
+ * enums → name / ordinal) for native statements (COPY, upsert).
+ * </p>
+ *
+ * <p>
+ * STRICT:
+ * Multi-column properties (embeddables, composite FKs) are rejected instead of
+ * being written partially.
+ * </p>
+ */
+final class EntityRowPlan {
+
+	private final AbstractEntityPersister persister;
+	private final PersistenceUnitUtil persistenceUnitUtil;
+	private final BeforeExecutionGenerator idGenerator;
+	private final int[] propertyIndexes;
+	private final List<String> columns;
+	private final Map<String, String> propertyColumns;
+
+	EntityRowPlan(AbstractEntityPersister persister, PersistenceUnitUtil persistenceUnitUtil) {
+
+		this.persister = persister;
+		this.persistenceUnitUtil = persistenceUnitUtil;
+
+		Generator generator = persister.getGenerator();
+		this.idGenerator = generator instanceof BeforeExecutionGenerator before
+				&& !generator.generatedOnExecution()
+				? before
+				: null;
+
+		List<String> cols = new ArrayList<>();
+		if (idGenerator != null) {
+			cols.add(persister.getIdentifierColumnNames()[0]);
+		}
+
+		String[] names = persister.getPropertyNames();
+		Type[] types = persister.getPropertyTypes();
+		boolean[] insertable = persister.getPropertyInsertability();
+
+		List<Integer> indexes = new ArrayList<>();
+		Map<String, String> byProperty = new LinkedHashMap<>();
+
+		for (int i = 0; i < names.length; i++) {
+
+			if (!insertable[i] || types[i].isCollectionType()) {
+				continue;
+			}
+
+			String[] mapped = persister.getPropertyColumnNames(i);
+			if (mapped.length != 1) {
+				throw new IllegalStateException(
+						"Native insert supports single-column properties only. " +
+								persister.getEntityName() + "." + names[i] + " maps " + mapped.length + " columns."
+				);
+			}
+
+			cols.add(mapped[0]);
+			indexes.add(i);
+			byProperty.put(names[i], mapped[0]);
+		}
+
+		this.propertyIndexes = indexes.stream().mapToInt(Integer::intValue).toArray();
+		this.columns = List.copyOf(cols);
+		this.propertyColumns = Collections.unmodifiableMap(byProperty);
+	}
+
+	String tableName() {
+		return persister.getTableName();
+	}
+
+	List<String> columns() {
+		return columns;
+	}
+
+	/**
+	 * @return insert column of an entity property, or {@code null} if not insertable / unknown
+	 */
+	String columnOf(String propertyName) {
+		return propertyColumns.get(propertyName);
+	}
+
+	/**
+	 * Relational values in {@link #columns()} order.
+	 *
+	 * <p>
+	 * A sequence id is always generated for the id column; it is written back to the
+	 * entity only with {@code assignId} (an upsert that hits a conflict keeps the existing id).
+	 * Must be called outside an active COPY: id generation needs the connection.
+	 * </p>
+	 */
+	Object[] values(Object entity, SharedSessionContractImplementor session, boolean assignId) {
+
+		Object[] out = new Object[columns.size()];
+		Type[] types = persister.getPropertyTypes();
+		int c = 0;
+
+		if (idGenerator != null) {
+			Object id = idGenerator.generate(session, entity, null, EventType.INSERT);
+			if (assignId) {
+				persister.setIdentifier(entity, id, session);
+			}
+			out[c++] = id;
+		}
+
+		for (int index : propertyIndexes) {
+			out[c++] = toRelational(persister.getPropertyValue(entity, index), types[index]);
+		}
+
+		return out;
+	}
+
+	@SuppressWarnings({"unchecked", "rawtypes"})
+	private Object toRelational(Object value, Type type) {
+
+		if (value == null) {
+			return null;
+		}
+
+		if (type instanceof EntityType) {
+			return persistenceUnitUtil.getIdentifier(value);
+		}
+
+		if (type instanceof BasicType<?> basicType) {
+
+			BasicValueConverter converter = basicType.getValueConverter();
+			if (converter != null) {
+				value = converter.toRelationalValue(value);
+			}
+
+			if (value instanceof Enum<?> e) {
+				return basicType.getJdbcType().isNumber() ? e.ordinal() : e.name();
+			}
+		}
+
+		return value;
+	}
+}
@@ -0,0 +1,110 @@
+package com.tamantaw.projectx.persistence.repository.base;
+
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Per entity type write counters (this JVM only).
+ *
+ * <p>
+ * A cached result derived from some entity types is valid as long as the
+ * {@link #sum(Collection) sum} of their epochs is unchanged.
+ * </p>
+ *
+ * <p>
+ * A write bumps the epoch immediately and, inside a transaction, once more
+ * after completion: a reader that snapshots the epoch between the write and
+ * the commit still sees old rows, and must not keep its result.
+ * </p>
+ *
+ * <p>
+ * Fed by {@code EntityWriteEpochIntegrator} (Hibernate insert / update / delete events)
+ * and by repository bulk / native writes ({@code afterBulkDml}).
+ * </p>
+ */
+public final class EntityWriteEpochs {
+
+	private static final ConcurrentHashMap<Class<?>, AtomicLong> EPOCHS = new ConcurrentHashMap<>();
+
+	/**
+	 * Transaction resource key: types written by the current transaction.
+	 */
+	private static final Object PENDING_KEY = new Object();
+
+	/**
+	 * Source type → types whose rows the database rewrites when the source is written.
+	 */
+	private static final ConcurrentHashMap<Class<?>, Set<Class<?>>> DERIVED = new ConcurrentHashMap<>();
+
+	private EntityWriteEpochs() {
+	}
+
+	/**
+	 * Declares that writes of any of {@code sources} also change {@code derived} rows on the
+	 * database side (triggers, {@code ON DELETE CASCADE}): they bump its epoch too.
+	 */
+	public static void derives(Class<?> derived, Class<?>... sources) {
+		for (Class<?> source : sources) {
+			DERIVED.computeIfAbsent(source, s -> ConcurrentHashMap.newKeySet()).add(derived);
+		}
+	}
+
+	public static void written(Class<?> type) {
+
+		record(type);
+
+		for (Class<?> derived : DERIVED.getOrDefault(type, Set.of())) {
+			record(derived);
+		}
+	}
+
+	private static void record(Class<?> type) {
+
+		bump(type);
+
+		if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+			return;
+		}
+
+		@SuppressWarnings("unchecked")
+		Set<Class<?>> pending = (Set<Class<?>>) TransactionSynchronizationManager.getResource(PENDING_KEY);
+
+		if (pending == null) {
+			Set<Class<?>> types = new HashSet<>();
+			TransactionSynchronizationManager.bindResource(PENDING_KEY, types);
+			TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+				@Override
+				public void afterCompletion(int status) {
+					TransactionSynchronizationManager.unbindResourceIfPossible(PENDING_KEY);
+					types.forEach(EntityWriteEpochs::bump);
+				}
+			});
+			pending = types;
+		}
+
+		pending.add(type);
+	}
+
+	public static long sum(Collection<Class<?>> types) {
+
+		long sum = 0;
+		for (Class<?> type : types) {
+			AtomicLong epoch = EPOCHS.get(type);
+			if (epoch != null) {
+				sum += epoch.get();
+			}
+		}
+
+		return sum;
+	}
+
+	private static void bump(Class<?> type) {
+		EPOCHS.computeIfAbsent(type, t -> new AtomicLong()).incrementAndGet();
+	}
+}
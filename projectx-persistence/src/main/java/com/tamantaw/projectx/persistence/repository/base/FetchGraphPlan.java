@@ -0,0 +1,201 @@
+package com.tamantaw.projectx.persistence.repository.base;
+
+import jakarta.persistence.EntityGraph;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.Subgraph;
+import jakarta.persistence.metamodel.Attribute;
+import jakarta.persistence.metamodel.ManagedType;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Compiled form of fetch-graph hint strings such as
+ * {@code "Administrator(administratorRoles(role))"}.
+ *
+ * <p>
+ * A plan is parsed and validated against the JPA metamodel once per distinct hint array
+ * and cached by {@link AbstractRepositoryImpl}. It holds:
+ * <ul>
+ *   <li>the validated attribute tree</li>
+ *   <li>whether any node is collection-valued (drives the ID-first decision)</li>
+ *   <li>the recipe for building a fresh {@link EntityGraph}</li>
+ *   <li>its decomposition into single-collection {@link #branches()}</li>
+ * </ul>
+ * </p>
+ *
+ * <p>
+ * STRICT: plans are immutable. {@code EntityGraph} instances are mutable and are
+ * therefore never cached — {@link #toEntityGraph} builds a new one per query.
+ * </p>
+ */
+public final class FetchGraphPlan {
+
+	static final FetchGraphPlan EMPTY = new FetchGraphPlan(List.of());
+
+	private final List<Node> nodes;
+	private final boolean containsCollection;
+	private volatile List<FetchGraphPlan> branches;
+
+	FetchGraphPlan(List<Node> nodes) {
+		this.nodes = List.copyOf(nodes);
+		this.containsCollection = this.nodes.stream().anyMatch(Node::containsCollection);
+	}
+
+	public List<Node> getNodes() {
+		return nodes;
+	}
+
+	public boolean isEmpty() {
+		return nodes.isEmpty();
+	}
+
+	/**
+	 * @return true if any attribute in the tree is collection-valued
+	 */
+	public boolean containsCollection() {
+		return containsCollection;
+	}
+
+	/**
+	 * Decomposition into plans without sibling collections at any level.
+	 *
+	 * <p>
+	 * The first branch carries every collection-free attribute plus the first
+	 * collection path; each further branch carries exactly one more collection path.
+	 * Fetching each branch with its own query makes rows grow with the sum of the
+	 * collection sizes instead of their product. A plan with at most one collection
+	 * path per level is its own single branch.
+	 * </p>
+	 */
+	public List<FetchGraphPlan> branches() {
+
+		List<FetchGraphPlan> result = branches;
+
+		if (result == null) {
+			List<List<Node>> split = split(nodes);
+			result = split.size() == 1
+					? List.of(this)
+					: split.stream().map(FetchGraphPlan::new).toList();
+			branches = result;
+		}
+
+		return result;
+	}
+
+	private static List<List<Node>> split(List<Node> nodes) {
+
+		List<Node> plain = new ArrayList<>();
+		List<Node> collections = new ArrayList<>();
+
+		for (Node node : nodes) {
+			(node.containsCollection() ? collections : plain).add(node);
+		}
+
+		if (collections.size() <= 1 && collections.stream().allMatch(Node::isSingleBranch)) {
+			return List.of(nodes);
+		}
+
+		List<List<Node>> result = new ArrayList<>();
+
+		for (Node node : collections) {
+			for (List<Node> children : split(node.children)) {
+
+				List<Node> branch = new ArrayList<>();
+				if (result.isEmpty()) {
+					branch.addAll(plain);
+				}
+				branch.add(node.withChildren(children));
+
+				result.add(branch);
+			}
+		}
+
+		return result;
+	}
+
+	<T> EntityGraph<T> toEntityGraph(EntityManager entityManager, Class<T> rootClass) {
+
+		EntityGraph<T> graph = entityManager.createEntityGraph(rootClass);
+		AbstractRepositoryImpl.GraphContainer container =
+				new AbstractRepositoryImpl.EntityGraphContainer(graph);
+
+		for (Node node : nodes) {
+			node.applyTo(container);
+		}
+
+		return graph;
+	}
+
+	/**
+	 * One validated attribute of the graph.
+	 *
+	 * <p>
+	 * {@code nestedType == null} → plain attribute node ({@code "role"}).
+	 * Otherwise → subgraph ({@code "role(...)"}) scoped to {@code nestedType}.
+	 * </p>
+	 */
+	public static final class Node {
+
+		private final Attribute<?, ?> attribute;
+		private final ManagedType<?> nestedType;
+		private final List<Node> children;
+
+		Node(Attribute<?, ?> attribute, ManagedType<?> nestedType, List<Node> children) {
+			this.attribute = attribute;
+			this.nestedType = nestedType;
+			this.children = List.copyOf(children);
+		}
+
+		public String getName() {
+			return attribute.getName();
+		}
+
+		public Attribute<?, ?> getAttribute() {
+			return attribute;
+		}
+
+		public boolean isSubgraph() {
+			return nestedType != null;
+		}
+
+		public List<Node> getChildren() {
+			return children;
+		}
+
+		public boolean isCollection() {
+			return attribute.isCollection();
+		}
+
+		public boolean containsCollection() {
+			return isCollection() || children.stream().anyMatch(Node::containsCollection);
+		}
+
+		/**
+		 * At most one collection path below this node, at every level.
+		 */
+		boolean isSingleBranch() {
+			return split(children).size() == 1;
+		}
+
+		Node withChildren(List<Node> children) {
+			return children.equals(this.children) ? this : new Node(attribute, nestedType, children);
+		}
+
+		void applyTo(AbstractRepositoryImpl.GraphContainer container) {
+
+			if (nestedType == null) {
+				container.addAttribute(attribute.getName());
+				return;
+			}
+
+			Subgraph<?> subgraph = container.addSubgraph(attribute, nestedType);
+			AbstractRepositoryImpl.GraphContainer nested =
+					new AbstractRepositoryImpl.SubgraphContainer(subgraph);
+
+			for (Node child : children) {
+				child.applyTo(nested);
+			}
+		}
+	}
+}
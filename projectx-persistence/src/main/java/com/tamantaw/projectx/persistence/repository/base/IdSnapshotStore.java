@@ -0,0 +1,132 @@
+package com.tamantaw.projectx.persistence.repository.base;
+
+import java.time.Duration;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * In-memory ordered ID lists for SNAPSHOT paging, shared by all repositories.
+ *
+ * <p>
+ * Each snapshot is a primitive {@code long[]} (8 bytes per row) stored under a
+ * random token, bound to the signature of the search that produced it
+ * (entity, filter, ORDER BY). A token presented with another signature is
+ * treated as unknown, so it never exposes rows outside the caller's own filter.
+ * </p>
+ *
+ * <p>
+ * Eviction:
+ * <ul>
+ *   <li>sliding TTL: each page read extends the snapshot's lifetime</li>
+ *   <li>global budget of {@link #MAX_TOTAL_IDS} IDs: least recently used snapshots go first</li>
+ * </ul>
+ * </p>
+ */
+final class IdSnapshotStore {
+
+	/**
+	 * ~32 MB of IDs across all live snapshots.
+	 */
+	static final long MAX_TOTAL_IDS = 4_000_000L;
+
+	static final IdSnapshotStore SHARED = new IdSnapshotStore(MAX_TOTAL_IDS);
+
+	private final long maxTotalIds;
+	private final LinkedHashMap<String, Snapshot> snapshots = new LinkedHashMap<>(16, 0.75f, true);
+	private long totalIds;
+
+	IdSnapshotStore(long maxTotalIds) {
+		this.maxTotalIds = maxTotalIds;
+	}
+
+	/**
+	 * @param truncated the search matched more rows than {@code ids} holds
+	 * @return token for {@link #get}
+	 */
+	synchronized String put(String signature, long[] ids, boolean truncated, Duration ttl) {
+
+		String token = UUID.randomUUID().toString();
+
+		snapshots.put(token, new Snapshot(signature, ids, truncated, ttl.toNanos(), System.nanoTime() + ttl.toNanos()));
+		totalIds += ids.length;
+
+		evict(token);
+
+		return token;
+	}
+
+	/**
+	 * @return the live snapshot for {@code token}, or {@code null} if unknown,
+	 * expired, evicted or issued for another signature
+	 */
+	synchronized Snapshot get(String token, String signature) {
+
+		if (token == null) {
+			return null;
+		}
+
+		Snapshot snapshot = snapshots.get(token);
+
+		if (snapshot == null) {
+			return null;
+		}
+
+		long now = System.nanoTime();
+
+		if (snapshot.expiresAtNanos() - now <= 0) {
+			remove(token);
+			return null;
+		}
+
+		if (!snapshot.signature().equals(signature)) {
+			return null;
+		}
+
+		Snapshot touched = snapshot.touch(now);
+		snapshots.put(token, touched);
+
+		return touched;
+	}
+
+	private void evict(String keep) {
+
+		long now = System.nanoTime();
+		Iterator<Map.Entry<String, Snapshot>> it = snapshots.entrySet().iterator();
+
+		// LRU order: expired ones anywhere, then oldest first while over budget
+		while (it.hasNext()) {
+			Map.Entry<String, Snapshot> entry = it.next();
+
+			boolean expired = entry.getValue().expiresAtNanos() - now <= 0;
+			boolean overBudget = totalIds > maxTotalIds && !entry.getKey().equals(keep);
+
+			if (expired || overBudget) {
+				totalIds -= entry.getValue().ids().length;
+				it.remove();
+			}
+		}
+	}
+
+	private void remove(String token) {
+
+		Snapshot removed = snapshots.remove(token);
+
+		if (removed != null) {
+			totalIds -= removed.ids().length;
+		}
+	}
+
+	record Snapshot(
+			String signature,
+			long[] ids,
+			boolean truncated,
+			long ttlNanos,
+			long expiresAtNanos) {
+
+		private Snapshot touch(long now) {
+			return new Snapshot(signature, ids, truncated, ttlNanos, now + ttlNanos);
+		}
+	}
+}
@@ -0,0 +1,229 @@
+package com.tamantaw.projectx.persistence.repository.base;
+
+import com.querydsl.core.types.OrderSpecifier;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.nio.charset.StandardCharsets;
+import java.time.*;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Opaque keyset cursor used by {@link AbstractRepositoryImpl} KEYSET paging.
+ *
+ * <p>
+ * A cursor carries:
+ * <ul>
+ *   <li>the paging direction (NEXT / PREVIOUS)</li>
+ *   <li>a signature of the ORDER BY it was issued for</li>
+ *   <li>the boundary row's sort-key values, including the ID tiebreaker</li>
+ * </ul>
+ * </p>
+ *
+ * <p>
+ * STRICT:
+ * A cursor is only valid for the exact ORDER BY that produced it.
+ * Replaying it against a different sort is rejected instead of silently
+ * seeking on the wrong keys.
+ * </p>
+ */
+final class KeysetCursor {
+
+	private static final String VERSION = "k1";
+	private static final String SEPARATOR = ".";
+
+	private static final Base64.Encoder ENCODER = Base64.getUrlEncoder().withoutPadding();
+	private static final Base64.Decoder DECODER = Base64.getUrlDecoder();
+
+	private final Direction direction;
+	private final List<String> rawValues;
+
+	private KeysetCursor(Direction direction, List<String> rawValues) {
+		this.direction = direction;
+		this.rawValues = rawValues;
+	}
+
+	// ----------------------------------------------------------------------
+	// SIGNATURE
+	// ----------------------------------------------------------------------
+
+	static String signatureOf(List<OrderSpecifier<?>> orders) {
+
+		StringBuilder sb = new StringBuilder();
+		for (OrderSpecifier<?> o : orders) {
+			sb.append(o.getTarget()).append(' ').append(o.getOrder()).append(';');
+		}
+		return Integer.toHexString(sb.toString().hashCode());
+	}
+
+	// ----------------------------------------------------------------------
+	// ENCODE / DECODE
+	// ----------------------------------------------------------------------
+
+	static String encode(Direction direction, String signature, Object[] values) {
+
+		StringBuilder sb = new StringBuilder(VERSION)
+				.append(SEPARATOR).append(direction.name().charAt(0))
+				.append(SEPARATOR).append(signature);
+
+		for (Object value : values) {
+			if (value == null) {
+				throw new IllegalStateException(
+						"Keyset paging requires NOT NULL sort keys. Boundary row has a NULL sort value."
+				);
+			}
+			sb.append(SEPARATOR)
+					.append(ENCODER.encodeToString(format(value).getBytes(StandardCharsets.UTF_8)));
+		}
+
+		return sb.toString();
+	}
+
+	/**
+	 * Decodes a client cursor.
+	 *
+	 * @return decoded cursor, or {@code null} if no cursor was supplied (first page)
+	 * @throws IllegalArgumentException if the cursor is malformed or was issued for another ORDER BY
+	 */
+	static KeysetCursor decode(String token, String expectedSignature, int expectedKeys) {
+
+		if (token == null || token.isBlank()) {
+			return null;
+		}
+
+		String[] parts = token.trim().split("\\.", -1);
+
+		if (parts.length != 3 + expectedKeys || !VERSION.equals(parts[0])) {
+			throw new IllegalArgumentException("Invalid keyset cursor");
+		}
+
+		Direction direction = switch (parts[1]) {
+			case "N" -> Direction.NEXT;
+			case "P" -> Direction.PREVIOUS;
+			default -> throw new IllegalArgumentException("Invalid keyset cursor direction");
+		};
+
+		if (!parts[2].equals(expectedSignature)) {
+			throw new IllegalArgumentException(
+					"Keyset cursor was issued for a different ORDER BY. Restart paging from the first page."
+			);
+		}
+
+		List<String> raw = new ArrayList<>(expectedKeys);
+		try {
+			for (int i = 3; i < parts.length; i++) {
+				raw.add(new String(DECODER.decode(parts[i]), StandardCharsets.UTF_8));
+			}
+		}
+		catch (IllegalArgumentException e) {
+			throw new IllegalArgumentException("Invalid keyset cursor", e);
+		}
+
+		return new KeysetCursor(direction, raw);
+	}
+
+	Direction direction() {
+		return direction;
+	}
+
+	/**
+	 * Converts the raw cursor values to the Java types of the ORDER BY targets.
+	 */
+	Object[] values(Class<?>[] types) {
+
+		Object[] out = new Object[types.length];
+
+		try {
+			for (int i = 0; i < types.length; i++) {
+				out[i] = parse(rawValues.get(i), types[i]);
+			}
+		}
+		catch (IllegalArgumentException | DateTimeException e) {
+			throw new IllegalArgumentException("Invalid keyset cursor value", e);
+		}
+
+		return out;
+	}
+
+	// ----------------------------------------------------------------------
+	// VALUE CODEC
+	// ----------------------------------------------------------------------
+
+	private static String format(Object value) {
+		if (value instanceof Enum<?> e) {
+			return e.name();
+		}
+		return value.toString();
+	}
+
+	@SuppressWarnings({"unchecked", "rawtypes"})
+	private static Object parse(String raw, Class<?> type) {
+
+		if (type == String.class) {
+			return raw;
+		}
+		if (type == Long.class || type == long.class) {
+			return Long.valueOf(raw);
+		}
+		if (type == Integer.class || type == int.class) {
+			return Integer.valueOf(raw);
+		}
+		if (type == Short.class || type == short.class) {
+			return Short.valueOf(raw);
+		}
+		if (type == Byte.class || type == byte.class) {
+			return Byte.valueOf(raw);
+		}
+		if (type == Double.class || type == double.class) {
+			return Double.valueOf(raw);
+		}
+		if (type == Float.class || type == float.class) {
+			return Float.valueOf(raw);
+		}
+		if (type == Boolean.class || type == boolean.class) {
+			return Boolean.valueOf(raw);
+		}
+		if (type == BigDecimal.class) {
+			return new BigDecimal(raw);
+		}
+		if (type == BigInteger.class) {
+			return new BigInteger(raw);
+		}
+		if (type.isEnum()) {
+			return Enum.valueOf((Class<? extends Enum>) type, raw);
+		}
+		if (type == LocalDateTime.class) {
+			return LocalDateTime.parse(raw);
+		}
+		if (type == LocalDate.class) {
+			return LocalDate.parse(raw);
+		}
+		if (type == LocalTime.class) {
+			return LocalTime.parse(raw);
+		}
+		if (type == Instant.class) {
+			return Instant.parse(raw);
+		}
+		if (type == OffsetDateTime.class) {
+			return OffsetDateTime.parse(raw);
+		}
+		if (type == ZonedDateTime.class) {
+			return ZonedDateTime.parse(raw);
+		}
+		if (type == UUID.class) {
+			return UUID.fromString(raw);
+		}
+
+		throw new IllegalStateException(
+				"Unsupported keyset sort key type: " + type.getName()
+		);
+	}
+
+	enum Direction {
+		NEXT,
+		PREVIOUS
+	}
+}
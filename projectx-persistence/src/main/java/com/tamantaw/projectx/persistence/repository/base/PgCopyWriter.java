@@ -0,0 +1,87 @@
+package com.tamantaw.projectx.persistence.repository.base;
+
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.postgresql.PGConnection;
+import org.postgresql.copy.CopyIn;
+
+import java.nio.charset.StandardCharsets;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.HexFormat;
+
+/**
+ * CSV encoder for PostgreSQL {@code COPY ... FROM STDIN} over an {@link EntityRowPlan}.
+ */
+final class PgCopyWriter {
+
+	private final EntityRowPlan plan;
+	private final String sql;
+
+	PgCopyWriter(EntityRowPlan plan) {
+		this.plan = plan;
+		this.sql = "COPY " + plan.tableName() +
+				" (" + String.join(", ", plan.columns()) + ") FROM STDIN WITH (FORMAT csv)";
+	}
+
+	String sql() {
+		return sql;
+	}
+
+	/**
+	 * Assigns the identifier (if sequence-generated) and appends one CSV row.
+	 */
+	void appendRow(StringBuilder out, Object entity, SharedSessionContractImplementor session) {
+
+		Object[] values = plan.values(entity, session, true);
+
+		for (int i = 0; i < values.length; i++) {
+			if (i > 0) {
+				out.append(',');
+			}
+			appendValue(out, values[i]);
+		}
+
+		out.append('\n');
+	}
+
+	/**
+	 * Sends one encoded chunk as a single COPY statement.
+	 *
+	 * @return rows inserted
+	 */
+	long copy(Connection connection, CharSequence rows) throws SQLException {
+
+		CopyIn copyIn = connection.unwrap(PGConnection.class)
+				.getCopyAPI()
+				.copyIn(sql);
+
+		try {
+			byte[] bytes = rows.toString().getBytes(StandardCharsets.UTF_8);
+			copyIn.writeToCopy(bytes, 0, bytes.length);
+			return copyIn.endCopy();
+		}
+		finally {
+			if (copyIn.isActive()) {
+				copyIn.cancelCopy();
+			}
+		}
+	}
+
+	// ----------------------------------------------------------------------
+	// CSV VALUE ENCODING
+	// ----------------------------------------------------------------------
+
+	private static void appendValue(StringBuilder out, Object value) {
+
+		if (value == null) {
+			return; // unquoted empty = NULL
+		}
+
+		String text = value instanceof byte[] bytes
+				? "\\x" + HexFormat.of().formatHex(bytes)
+				: value.toString();
+
+		// Always quoted: distinguishes '' from NULL and protects delimiters / newlines
+		out.append('"').append(text.replace("\"", "\"\"")).append('"');
+	}
+}
@@ -0,0 +1,118 @@
+package com.tamantaw.projectx.persistence.repository.base;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Types;
+import java.util.Collections;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Multi-row {@code INSERT ... ON CONFLICT ON CONSTRAINT ...} over an {@link EntityRowPlan}.
+ *
+ * <p>
+ * One statement per batch; the statement text depends only on the batch size,
+ * so full batches share one prepared statement shape.
+ * </p>
+ */
+final class PgUpsertWriter {
+
+	/**
+	 * PostgreSQL wire-protocol limit of bind parameters per statement.
+	 */
+	private static final int MAX_BIND_PARAMETERS = 65_535;
+
+	private final String insertPrefix;
+	private final String conflictClause;
+	private final String rowPlaceholders;
+	private final int columnCount;
+
+	PgUpsertWriter(EntityRowPlan plan, UpsertSpec spec) {
+
+		List<String> columns = plan.columns();
+		this.columnCount = columns.size();
+		this.insertPrefix = "INSERT INTO " + plan.tableName() + " (" + String.join(", ", columns) + ") VALUES ";
+		this.rowPlaceholders = "(" + String.join(", ", Collections.nCopies(columnCount, "?")) + ")";
+
+		if (spec.isDoNothing()) {
+			this.conflictClause = " ON CONFLICT ON CONSTRAINT " + spec.getConstraintName() + " DO NOTHING";
+			return;
+		}
+
+		Set<String> updateColumns = new LinkedHashSet<>();
+		for (String property : spec.getUpdateProperties()) {
+
+			if ("id".equals(property) || "createdBy".equals(property) || "createdDate".equals(property)) {
+				throw new IllegalArgumentException("Upsert must not update '" + property + "'");
+			}
+
+			String column = plan.columnOf(property);
+			if (column == null) {
+				throw new IllegalArgumentException(
+						"Unknown or non-insertable upsert property '" + property + "' for " + plan.tableName()
+				);
+			}
+			updateColumns.add(column);
+		}
+
+		// Audit: an update is an update
+		updateColumns.add(plan.columnOf("updatedBy"));
+		updateColumns.add(plan.columnOf("updatedDate"));
+
+		StringBuilder sb = new StringBuilder(" ON CONFLICT ON CONSTRAINT ")
+				.append(spec.getConstraintName())
+				.append(" DO UPDATE SET ");
+
+		boolean first = true;
+		for (String column : updateColumns) {
+			if (!first) {
+				sb.append(", ");
+			}
+			first = false;
+			sb.append(column).append(" = EXCLUDED.").append(column);
+		}
+
+		this.conflictClause = sb.toString();
+	}
+
+	/**
+	 * Largest batch that fits the bind-parameter limit.
+	 */
+	int maxBatchRows() {
+		return MAX_BIND_PARAMETERS / columnCount;
+	}
+
+	/**
+	 * @return rows inserted or updated (DO NOTHING conflicts are not counted)
+	 */
+	int execute(Connection connection, List<Object[]> rows) throws SQLException {
+
+		StringBuilder sql = new StringBuilder(insertPrefix);
+		for (int r = 0; r < rows.size(); r++) {
+			if (r > 0) {
+				sql.append(", ");
+			}
+			sql.append(rowPlaceholders);
+		}
+		sql.append(conflictClause);
+
+		try (PreparedStatement ps = connection.prepareStatement(sql.toString())) {
+
+			int index = 1;
+			for (Object[] row : rows) {
+				for (Object value : row) {
+					if (value == null) {
+						ps.setNull(index++, Types.NULL);
+					}
+					else {
+						ps.setObject(index++, value);
+					}
+				}
+			}
+
+			return ps.executeUpdate();
+		}
+	}
+}
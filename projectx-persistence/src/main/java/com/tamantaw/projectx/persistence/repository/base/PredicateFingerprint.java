@@ -0,0 +1,179 @@
+package com.tamantaw.projectx.persistence.repository.base;
+
+import com.querydsl.core.JoinExpression;
+import com.querydsl.core.QueryMetadata;
+import com.querydsl.core.types.*;
+
+import java.util.*;
+
+/**
+ * Unambiguous rendering of a QueryDSL expression tree (constants are
+ * length-prefixed) plus the entity types it reads.
+ */
+final class PredicateFingerprint implements Visitor<Void, Void> {
+
+	private final StringBuilder out = new StringBuilder(128);
+	private final Set<Class<?>> types = new LinkedHashSet<>();
+
+	private PredicateFingerprint() {
+	}
+
+	static PredicateFingerprint of(Predicate predicate) {
+
+		PredicateFingerprint fingerprint = new PredicateFingerprint();
+
+		if (predicate != null) {
+			predicate.accept(fingerprint, null);
+		}
+
+		return fingerprint;
+	}
+
+	/**
+	 * Canonical rendering: equal filters (same values, sets in any order) yield equal keys.
+	 */
+	String key() {
+		return out.toString();
+	}
+
+	/**
+	 * Types of every path the predicate reads, including subquery joins.
+	 */
+	Set<Class<?>> entityTypes() {
+		return Collections.unmodifiableSet(types);
+	}
+
+	@Override
+	public Void visit(Constant<?> expr, Void context) {
+
+		String value = render(expr.getConstant());
+
+		out.append("c:").append(expr.getType().getName())
+				.append(':').append(value.length()).append(':').append(value);
+		return null;
+	}
+
+	@Override
+	public Void visit(FactoryExpression<?> expr, Void context) {
+		out.append("f:").append(expr.getType().getName());
+		return args(expr.getArgs());
+	}
+
+	@Override
+	public Void visit(Operation<?> expr, Void context) {
+		out.append("o:").append(expr.getOperator().name());
+		return args(expr.getArgs());
+	}
+
+	@Override
+	public Void visit(ParamExpression<?> expr, Void context) {
+		out.append("p:").append(expr.getName());
+		return null;
+	}
+
+	@Override
+	public Void visit(Path<?> expr, Void context) {
+
+		types.add(expr.getRoot().getType());
+		types.add(expr.getType());
+		if (expr instanceof CollectionExpression<?, ?> collection) {
+			types.add(collection.getParameter(0));
+		}
+
+		PathMetadata metadata = expr.getMetadata();
+
+		out.append("a:").append(metadata.getPathType().name()).append('(');
+		if (metadata.getParent() != null) {
+			metadata.getParent().accept(this, null);
+			out.append(',');
+		}
+		out.append(metadata.getElement()).append(')');
+		return null;
+	}
+
+	@Override
+	public Void visit(SubQueryExpression<?> expr, Void context) {
+
+		QueryMetadata metadata = expr.getMetadata();
+
+		out.append("s:(");
+		for (JoinExpression join : metadata.getJoins()) {
+			out.append(join.getType().name()).append(' ');
+			join.getTarget().accept(this, null);
+			if (join.getCondition() != null) {
+				out.append(" on ");
+				join.getCondition().accept(this, null);
+			}
+			out.append(';');
+		}
+		if (metadata.getProjection() != null) {
+			out.append(" select ");
+			metadata.getProjection().accept(this, null);
+		}
+		if (metadata.getWhere() != null) {
+			out.append(" where ");
+			metadata.getWhere().accept(this, null);
+		}
+		args(metadata.getGroupBy());
+		if (metadata.getHaving() != null) {
+			out.append(" having ");
+			metadata.getHaving().accept(this, null);
+		}
+		out.append(" limit ").append(metadata.getModifiers().getLimit())
+				.append(" offset ").append(metadata.getModifiers().getOffset())
+				.append(')');
+		return null;
+	}
+
+	@Override
+	public Void visit(TemplateExpression<?> expr, Void context) {
+		out.append("t:").append(expr.getTemplate());
+		return args(expr.getArgs());
+	}
+
+	private Void args(List<?> args) {
+
+		out.append('[');
+		for (Object arg : args) {
+			if (arg instanceof Expression<?> expression) {
+				expression.accept(this, null);
+			}
+			else {
+				String value = render(arg);
+				out.append(value.length()).append(':').append(value);
+			}
+			out.append(',');
+		}
+		out.append(']');
+		return null;
+	}
+
+	/**
+	 * Collection items are length-prefixed; sets render sorted
+	 * (equal sets yield equal keys regardless of iteration order).
+	 */
+	private static String render(Object value) {
+
+		if (value instanceof Collection<?> collection) {
+
+			List<String> items = new ArrayList<>(collection.size());
+			collection.forEach(item -> items.add(render(item)));
+
+			if (value instanceof Set<?>) {
+				Collections.sort(items);
+			}
+
+			StringBuilder rendered = new StringBuilder("{");
+			for (String item : items) {
+				rendered.append(item.length()).append(':').append(item).append(',');
+			}
+			return rendered.append('}').toString();
+		}
+
+		if (value != null && value.getClass().isArray()) {
+			return Arrays.deepToString(new Object[]{value});
+		}
+
+		return String.valueOf(value);
+	}
+}
@@ -0,0 +1,56 @@
+package com.tamantaw.projectx.persistence.repository.base;
+
+import com.querydsl.core.types.Expression;
+import com.querydsl.core.types.Projections;
+import org.springframework.util.Assert;
+
+/**
+ * Row shape for projected reads ({@link AbstractRepository#findByPaging(AbstractCriteria, Projection)}).
+ *
+ * <pre>
+ * Projection.constructor(RoleRow.class, role.id, role.name, role.roleType)   // record / constructor
+ * Projection.bean(RoleDTO.class, role.id, role.name, role.description)      // setters, by property name
+ * </pre>
+ *
+ * <p>
+ * Rows are built straight from the selected columns: no managed entity, no
+ * persistence-context snapshot, no dirty checking, no mapper.
+ * </p>
+ *
+ * <p>
+ * STRICT: columns must be basic attributes of the query root (no to-one / collection
+ * navigation). A join would change the row count; the repository rejects it.
+ * </p>
+ */
+public final class Projection<T> {
+
+	private final Expression<T> expression;
+
+	private Projection(Expression<T> expression) {
+		this.expression = expression;
+	}
+
+	public static <T> Projection<T> of(Expression<T> expression) {
+		Assert.notNull(expression, "Projection expression must not be null");
+		return new Projection<>(expression);
+	}
+
+	public static <T> Projection<T> constructor(Class<? extends T> type, Expression<?>... columns) {
+		Assert.notEmpty(columns, "Projection columns must not be empty");
+		return new Projection<>(Projections.constructor(type, columns));
+	}
+
+	public static <T> Projection<T> bean(Class<? extends T> type, Expression<?>... columns) {
+		Assert.notEmpty(columns, "Projection columns must not be empty");
+		return new Projection<>(Projections.bean(type, columns));
+	}
+
+	public Expression<T> getExpression() {
+		return expression;
+	}
+
+	@Override
+	public String toString() {
+		return "Projection[" + expression + "]";
+	}
+}
@@ -0,0 +1,93 @@
+package com.tamantaw.projectx.persistence.repository.base;
+
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
+
+import java.io.Serial;
+import java.util.List;
+
+/**
+ * {@link PageImpl} returned by {@link AbstractRepositoryImpl#findByPaging}
+ * carrying paging metadata that a plain {@code Page} cannot express.
+ *
+ * <p>
+ * KEYSET mode: {@code nextCursor} / {@code previousCursor} are opaque tokens for
+ * the neighbouring pages, or {@code null} when there is no such page.
+ * </p>
+ *
+ * <p>
+ * SNAPSHOT mode: {@code searchToken} identifies the materialized ID list for the following pages.
+ * </p>
+ *
+ * <p>
+ * {@code totalExact == false}: the total is a lower bound (CAPPED) or a planner
+ * estimate (ESTIMATE), see {@code AbstractCriteria.CountMode}.
+ * </p>
+ */
+public class RepositoryPage<T> extends PageImpl<T> {
+
+	@Serial
+	private static final long serialVersionUID = 4379217146627419351L;
+
+	private final String nextCursor;
+	private final String previousCursor;
+	private final boolean totalExact;
+	private final String searchToken;
+
+	public RepositoryPage(List<T> content, Pageable pageable, long total) {
+		this(content, pageable, total, null, null);
+	}
+
+	public RepositoryPage(
+			List<T> content,
+			Pageable pageable,
+			long total,
+			String nextCursor,
+			String previousCursor) {
+
+		this(content, pageable, total, nextCursor, previousCursor, true);
+	}
+
+	public RepositoryPage(
+			List<T> content,
+			Pageable pageable,
+			long total,
+			String nextCursor,
+			String previousCursor,
+			boolean totalExact) {
+
+		this(content, pageable, total, nextCursor, previousCursor, totalExact, null);
+	}
+
+	public RepositoryPage(
+			List<T> content,
+			Pageable pageable,
+			long total,
+			String nextCursor,
+			String previousCursor,
+			boolean totalExact,
+			String searchToken) {
+
+		super(content, pageable, total);
+		this.nextCursor = nextCursor;
+		this.previousCursor = previousCursor;
+		this.totalExact = totalExact;
+		this.searchToken = searchToken;
+	}
+
+	public String getNextCursor() {
+		return nextCursor;
+	}
+
+	public String getPreviousCursor() {
+		return previousCursor;
+	}
+
+	public boolean isTotalExact() {
+		return totalExact;
+	}
+
+	public String getSearchToken() {
+		return searchToken;
+	}
+}
@@ -0,0 +1,74 @@
+package com.tamantaw.projectx.persistence.repository.base;
+
+import com.querydsl.core.types.EntityPath;
+import com.querydsl.core.types.Expression;
+import com.querydsl.core.types.Path;
+import com.querydsl.core.types.dsl.SimpleExpression;
+import org.springframework.util.Assert;
+
+/**
+ * To-many labels aggregated per root ID ({@link AbstractRepository#aggregateByIds}).
+ *
+ * <pre>
+ * // role names per administrator, read from the link table
+ * ToManyAggregate.of(
+ *         QAdministratorRole.administratorRole,
+ *         QAdministratorRole.administratorRole.administratorId,
+ *         QAdministratorRole.administratorRole.role.name)
+ * </pre>
+ *
+ * <p>
+ * One grouped query: {@code select rootKey, array_agg(value order by value) from link
+ * where rootKey = any(:ids) group by rootKey}. To-one navigation from {@code link}
+ * (e.g. {@code .role.name}) is an inner join inside that query only.
+ * </p>
+ *
+ * <p>
+ * STRICT: {@code rootKey} is a column of {@code link} holding the root entity ID.
+ * </p>
+ */
+public final class ToManyAggregate<V> {
+
+	private final EntityPath<?> link;
+	private final SimpleExpression<?> rootKey;
+	private final Expression<V> value;
+
+	private ToManyAggregate(EntityPath<?> link, SimpleExpression<?> rootKey, Expression<V> value) {
+		this.link = link;
+		this.rootKey = rootKey;
+		this.value = value;
+	}
+
+	public static <V> ToManyAggregate<V> of(
+			EntityPath<?> link,
+			SimpleExpression<?> rootKey,
+			Expression<V> value) {
+
+		Assert.notNull(link, "Link path must not be null");
+		Assert.notNull(rootKey, "Root key must not be null");
+		Assert.notNull(value, "Aggregated value must not be null");
+
+		if (!(rootKey instanceof Path<?> key) || !link.equals(key.getMetadata().getParent())) {
+			throw new IllegalArgumentException("Root key must be a column of " + link + ": " + rootKey);
+		}
+
+		return new ToManyAggregate<>(link, rootKey, value);
+	}
+
+	public EntityPath<?> getLink() {
+		return link;
+	}
+
+	public SimpleExpression<?> getRootKey() {
+		return rootKey;
+	}
+
+	public Expression<V> getValue() {
+		return value;
+	}
+
+	@Override
+	public String toString() {
+		return "ToManyAggregate[" + link + "." + rootKey + " -> " + value + "]";
+	}
+}
@@ -0,0 +1,61 @@
+package com.tamantaw.projectx.persistence.repository.base;
+
+import org.springframework.util.Assert;
+
+import java.util.List;
+
+/**
+ * Conflict target + action for {@link AbstractRepository#upsert}.
+ *
+ * <pre>
+ * UpsertSpec.onConstraint("uq_mjr_action_app_url")                      // DO NOTHING
+ * UpsertSpec.onConstraint("uq_mjr_action_app_url")
+ *           .update("displayName", "description", "actionType")     // DO UPDATE SET ...
+ * </pre>
+ *
+ * <p>
+ * The constraint must be declared in the entity's {@code @Table(uniqueConstraints)}.
+ * Update targets are entity property names; {@code updatedBy} / {@code updatedDate}
+ * are always refreshed on update.
+ * </p>
+ */
+public final class UpsertSpec {
+
+	private final String constraintName;
+	private final List<String> updateProperties;
+
+	private UpsertSpec(String constraintName, List<String> updateProperties) {
+		this.constraintName = constraintName;
+		this.updateProperties = updateProperties;
+	}
+
+	public static UpsertSpec onConstraint(String constraintName) {
+		Assert.hasText(constraintName, "Constraint name must not be empty");
+		return new UpsertSpec(constraintName, List.of());
+	}
+
+	/**
+	 * @param properties entity properties overwritten from the incoming row on conflict
+	 */
+	public UpsertSpec update(String... properties) {
+		Assert.notEmpty(properties, "Update properties must not be empty");
+		return new UpsertSpec(constraintName, List.of(properties));
+	}
+
+	public String getConstraintName() {
+		return constraintName;
+	}
+
+	public List<String> getUpdateProperties() {
+		return updateProperties;
+	}
+
+	public boolean isDoNothing() {
+		return updateProperties.isEmpty();
+	}
+
+	@Override
+	public String toString() {
+		return "UpsertSpec[" + constraintName + (isDoNothing() ? " DO NOTHING" : " UPDATE " + updateProperties) + "]";
+	}
+}
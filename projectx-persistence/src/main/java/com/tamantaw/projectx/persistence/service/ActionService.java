@@ -7,6 +7,8 @@ import com.tamantaw.projectx.persistence.entity.QAction;
 import com.tamantaw.projectx.persistence.exception.PersistenceException;
 import com.tamantaw.projectx.persistence.mapper.ActionMapper;
 import com.tamantaw.projectx.persistence.repository.ActionRepository;
+import com.tamantaw.projectx.persistence.repository.EffectivePermissionRepository;
+import com.tamantaw.projectx.persistence.repository.base.Projection;
 import com.tamantaw.projectx.persistence.service.base.BaseService;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
@@ -32,12 +34,40 @@ public class ActionService
 
 	private static final Logger serviceLogger = LogManager.getLogger("serviceLogs." + ActionService.class);
 
+	/**
+	 * Data-table row: the scalar columns of {@link ActionDTO}, selected without loading entities.
+	 */
+	public static final Projection<ActionDTO> DATA_TABLE_ROW = Projection.bean(
+			ActionDTO.class,
+			QAction.action.id,
+			QAction.action.createdBy,
+			QAction.action.createdDate,
+			QAction.action.updatedBy,
+			QAction.action.updatedDate,
+			QAction.action.appName,
+			QAction.action.page,
+			QAction.action.actionName,
+			QAction.action.displayName,
+			QAction.action.actionType,
+			QAction.action.description
+	);
+
 	private final ActionRepository actionRepository;
+	private final EffectivePermissionRepository effectivePermissionRepository;
 
 	@Autowired
-	public ActionService(ActionRepository actionRepository, ActionMapper mapper) {
+	public ActionService(
+			ActionRepository actionRepository,
+			ActionMapper mapper,
+			EffectivePermissionRepository effectivePermissionRepository) {
 		super(actionRepository, mapper);
 		this.actionRepository = actionRepository;
+		this.effectivePermissionRepository = effectivePermissionRepository;
+	}
+
+	@Override
+	protected void afterWrite() {
+		effectivePermissionRepository.refreshBeforeCommit();
 	}
 
 	@Transactional(readOnly = true)
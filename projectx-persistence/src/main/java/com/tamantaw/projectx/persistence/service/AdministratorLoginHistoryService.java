@@ -102,4 +102,22 @@ public class AdministratorLoginHistoryService
 			);
 		}
 	}
+
+	@Override
+	protected AdministratorLoginHistory toBulkEntity(AdministratorLoginHistoryDTO dto) {
+
+		Assert.notNull(dto.getAdministratorId(), "administratorId must not be null");
+
+		AdministratorLoginHistory entity = mapper.toEntity(dto);
+
+		// Reference only: the native insert writes the FK id, the proxy is never initialized
+		entity.setAdministrator(
+				entityManager.getReference(
+						Administrator.class,
+						dto.getAdministratorId()
+				)
+		);
+
+		return entity;
+	}
 }
@@ -10,6 +10,7 @@ import com.tamantaw.projectx.persistence.exception.ConsistencyViolationException
 import com.tamantaw.projectx.persistence.exception.PersistenceException;
 import com.tamantaw.projectx.persistence.mapper.AdministratorRoleMapper;
 import com.tamantaw.projectx.persistence.repository.AdministratorRoleRepository;
+import com.tamantaw.projectx.persistence.repository.EffectivePermissionRepository;
 import com.tamantaw.projectx.persistence.service.base.BaseService;
 import jakarta.persistence.EntityManager;
 import org.apache.logging.log4j.LogManager;
@@ -36,16 +37,24 @@ public class AdministratorRoleService
 
 	private final EntityManager entityManager;
 	private final AdministratorRoleRepository administratorRoleRepository;
+	private final EffectivePermissionRepository effectivePermissionRepository;
 
 	@Autowired
 	public AdministratorRoleService(
 			AdministratorRoleRepository administratorRoleRepository,
 			AdministratorRoleMapper mapper,
-			EntityManager entityManager
+			EntityManager entityManager,
+			EffectivePermissionRepository effectivePermissionRepository
 	) {
 		super(administratorRoleRepository, mapper);
 		this.entityManager = entityManager;
 		this.administratorRoleRepository = administratorRoleRepository;
+		this.effectivePermissionRepository = effectivePermissionRepository;
+	}
+
+	@Override
+	protected void afterWrite() {
+		effectivePermissionRepository.refreshBeforeCommit();
 	}
 
 	@Override
@@ -97,6 +106,8 @@ public class AdministratorRoleService
 			AdministratorRole saved =
 					administratorRoleRepository.saveRecord(entity);
 
+			afterWrite();
+
 			log.info("{} CREATE success id={}", c, saved.getId());
 
 			return mapper.toDto(saved, mappingContext);
@@ -2,15 +2,20 @@ package com.tamantaw.projectx.persistence.service;
 
 import com.tamantaw.projectx.persistence.criteria.AdministratorCriteria;
 import com.tamantaw.projectx.persistence.dto.AdministratorDTO;
+import com.tamantaw.projectx.persistence.dto.base.PaginatedResult;
 import com.tamantaw.projectx.persistence.entity.Administrator;
 import com.tamantaw.projectx.persistence.entity.AdministratorRole;
 import com.tamantaw.projectx.persistence.entity.QAdministrator;
+import com.tamantaw.projectx.persistence.entity.QAdministratorRole;
 import com.tamantaw.projectx.persistence.entity.Role;
 import com.tamantaw.projectx.persistence.exception.ConsistencyViolationException;
 import com.tamantaw.projectx.persistence.exception.ContentNotFoundException;
 import com.tamantaw.projectx.persistence.exception.PersistenceException;
 import com.tamantaw.projectx.persistence.mapper.AdministratorMapper;
 import com.tamantaw.projectx.persistence.repository.AdministratorRepository;
+import com.tamantaw.projectx.persistence.repository.EffectivePermissionRepository;
+import com.tamantaw.projectx.persistence.repository.base.Projection;
+import com.tamantaw.projectx.persistence.repository.base.ToManyAggregate;
 import com.tamantaw.projectx.persistence.repository.base.UpdateSpec;
 import com.tamantaw.projectx.persistence.service.base.BaseService;
 import jakarta.persistence.EntityManager;
@@ -19,8 +24,11 @@ import org.apache.logging.log4j.Logger;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 import org.springframework.util.Assert;
 
+import java.util.List;
+import java.util.Map;
 import java.util.Set;
 import java.util.stream.Collectors;
 
@@ -39,18 +47,70 @@ public class AdministratorService
 	private static final Logger log =
 			LogManager.getLogger("serviceLogs." + AdministratorService.class.getSimpleName());
 
+	/**
+	 * Data-table row: scalar columns of {@link AdministratorDTO} (never the password).
+	 */
+	public static final Projection<AdministratorDTO> DATA_TABLE_ROW = Projection.bean(
+			AdministratorDTO.class,
+			QAdministrator.administrator.id,
+			QAdministrator.administrator.createdBy,
+			QAdministrator.administrator.createdDate,
+			QAdministrator.administrator.updatedBy,
+			QAdministrator.administrator.updatedDate,
+			QAdministrator.administrator.name,
+			QAdministrator.administrator.loginId,
+			QAdministrator.administrator.status
+	);
+
+	/**
+	 * Role names per administrator, read from {@code mjr_admin_x_role} joined to {@code mjr_role}.
+	 */
+	public static final ToManyAggregate<String> ROLE_NAMES = ToManyAggregate.of(
+			QAdministratorRole.administratorRole,
+			QAdministratorRole.administratorRole.administratorId,
+			QAdministratorRole.administratorRole.role.name
+	);
+
 	private final EntityManager entityManager;
 	private final AdministratorRepository administratorRepository;
+	private final EffectivePermissionRepository effectivePermissionRepository;
 
 	@Autowired
 	public AdministratorService(
 			AdministratorRepository administratorRepository,
 			AdministratorMapper mapper,
-			EntityManager entityManager
+			EntityManager entityManager,
+			EffectivePermissionRepository effectivePermissionRepository
 	) {
 		super(administratorRepository, mapper);
 		this.entityManager = entityManager;
 		this.administratorRepository = administratorRepository;
+		this.effectivePermissionRepository = effectivePermissionRepository;
+	}
+
+	/**
+	 * Only role membership reaches {@code mjr_effective_permission_mv}: name / password / status
+	 * writes ({@code update}, {@code create} without roles, ...) do not refresh it.
+	 */
+	@Override
+	public boolean deleteById(Long id) throws PersistenceException {
+
+		boolean deleted = super.deleteById(id);
+		if (deleted) {
+			effectivePermissionRepository.refreshBeforeCommit();
+		}
+		return deleted;
+	}
+
+	@Override
+	public long delete(AdministratorCriteria criteria)
+			throws PersistenceException, ConsistencyViolationException {
+
+		long deleted = super.delete(criteria);
+		if (deleted > 0) {
+			effectivePermissionRepository.refreshBeforeCommit();
+		}
+		return deleted;
 	}
 
 	public Administrator create(
@@ -98,6 +158,8 @@ public class AdministratorService
 
 			Administrator saved = administratorRepository.saveRecord(entity);
 
+			effectivePermissionRepository.refreshBeforeCommit();
+
 			log.info("{} CREATE_WITH_ROLES success id={} roles={}",
 					c, saved.getId(), saved.getAdministratorRoles().size());
 
@@ -205,6 +267,8 @@ public class AdministratorService
 			Administrator saved =
 					administratorRepository.saveRecord(administrator);
 
+			effectivePermissionRepository.refreshBeforeCommit();
+
 			log.info("{} UPDATE_WITH_ROLES success id={} roles={} updatedBy={}",
 					c,
 					saved.getId(),
@@ -227,4 +291,28 @@ public class AdministratorService
 			);
 		}
 	}
+
+	/**
+	 * Administrator list page with role names: projected page + one {@link #ROLE_NAMES}
+	 * query for its IDs (no collection fetch graph, no mapper).
+	 */
+	@Transactional(readOnly = true)
+	public PaginatedResult<AdministratorDTO> findDataTablePage(AdministratorCriteria criteria)
+			throws PersistenceException {
+
+		PaginatedResult<AdministratorDTO> page = findByPaging(criteria, DATA_TABLE_ROW);
+
+		if (page.getData().isEmpty()) {
+			return page;
+		}
+
+		List<Long> ids = page.getData().stream().map(AdministratorDTO::getId).toList();
+		Map<Long, List<String>> roleNames = aggregateByIds(ids, ROLE_NAMES);
+
+		for (AdministratorDTO dto : page.getData()) {
+			dto.setRoleNames(roleNames.getOrDefault(dto.getId(), List.of()));
+		}
+
+		return page;
+	}
 }
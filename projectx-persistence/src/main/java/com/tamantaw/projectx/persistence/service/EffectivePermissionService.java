@@ -0,0 +1,120 @@
+package com.tamantaw.projectx.persistence.service;
+
+import com.querydsl.core.Tuple;
+import com.tamantaw.projectx.persistence.config.PrimaryPersistenceContext;
+import com.tamantaw.projectx.persistence.dto.ActionDTO;
+import com.tamantaw.projectx.persistence.dto.RoleDTO;
+import com.tamantaw.projectx.persistence.exception.PersistenceException;
+import com.tamantaw.projectx.persistence.repository.EffectivePermissionRepository;
+import com.tamantaw.projectx.persistence.view.QEffectivePermission;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.util.Assert;
+
+import java.util.*;
+
+/**
+ * Authorization reads served by {@code mjr_effective_permission_mv}: one indexed query each,
+ * no entity graphs.
+ */
+@Service
+@Transactional(transactionManager = PrimaryPersistenceContext.TX_MANAGER, readOnly = true)
+public class EffectivePermissionService {
+
+	private static final Logger serviceLogger =
+			LogManager.getLogger("serviceLogs." + EffectivePermissionService.class.getSimpleName());
+
+	private static final QEffectivePermission ep = QEffectivePermission.effectivePermission;
+
+	private final EffectivePermissionRepository effectivePermissionRepository;
+
+	@Autowired
+	public EffectivePermissionService(EffectivePermissionRepository effectivePermissionRepository) {
+		this.effectivePermissionRepository = effectivePermissionRepository;
+	}
+
+	/**
+	 * Actions of {@code appName} (newest first), each with {@code roles} = granting roles
+	 * of the same application ({@code id}, {@code appName}, {@code name} only).
+	 */
+	public List<ActionDTO> selectActionGrants(String appName) throws PersistenceException {
+
+		Assert.notNull(appName, "App name must not be null");
+
+		String c = String.format("[service=%s][app=%s]", getClass().getSimpleName(), appName);
+		serviceLogger.info("{} SELECT_ACTION_GRANTS start", c);
+
+		try {
+			List<Tuple> rows = effectivePermissionRepository.selectActionGrants(appName);
+
+			Map<Long, ActionDTO> actions = new LinkedHashMap<>();
+			Map<Long, Set<String>> roleNames = new HashMap<>();
+
+			for (Tuple row : rows) {
+				Long actionId = row.get(ep.actionId);
+
+				ActionDTO action = actions.computeIfAbsent(actionId, id -> {
+					ActionDTO dto = new ActionDTO();
+					dto.setId(id);
+					dto.setAppName(appName);
+					dto.setPage(row.get(ep.page));
+					dto.setActionName(row.get(ep.actionName));
+					dto.setDisplayName(row.get(ep.displayName));
+					dto.setActionType(row.get(ep.actionType));
+					dto.setUrl(row.get(ep.url));
+					dto.setRoles(new HashSet<>());
+					return dto;
+				});
+
+				String roleName = row.get(ep.roleName);
+				if (roleName != null
+						&& appName.equals(row.get(ep.roleAppName))
+						&& roleNames.computeIfAbsent(actionId, id -> new HashSet<>()).add(roleName)) {
+
+					RoleDTO role = new RoleDTO();
+					role.setAppName(appName);
+					role.setName(roleName);
+					action.getRoles().add(role);
+				}
+			}
+
+			serviceLogger.info("{} SELECT_ACTION_GRANTS success rows={} actions={}", c, rows.size(), actions.size());
+			return new ArrayList<>(actions.values());
+		}
+		catch (Exception e) {
+			serviceLogger.error("{} SELECT_ACTION_GRANTS failed", c, e);
+			throw new PersistenceException("SelectActionGrants failed app=" + appName, e);
+		}
+	}
+
+	/**
+	 * Names of the {@code appName} roles held by one administrator (empty if none).
+	 */
+	public Set<String> selectRoleNames(long administratorId, String appName) throws PersistenceException {
+
+		Assert.notNull(appName, "App name must not be null");
+
+		String c = String.format(
+				"[service=%s][administratorId=%s][app=%s]",
+				getClass().getSimpleName(),
+				administratorId,
+				appName
+		);
+		serviceLogger.info("{} SELECT_ROLE_NAMES start", c);
+
+		try {
+			Set<String> names =
+					new HashSet<>(effectivePermissionRepository.selectRoleNames(administratorId, appName));
+
+			serviceLogger.info("{} SELECT_ROLE_NAMES success roles={}", c, names);
+			return names;
+		}
+		catch (Exception e) {
+			serviceLogger.error("{} SELECT_ROLE_NAMES failed", c, e);
+			throw new PersistenceException("SelectRoleNames failed administratorId=" + administratorId, e);
+		}
+	}
+}
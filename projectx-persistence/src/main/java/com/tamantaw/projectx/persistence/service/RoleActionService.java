@@ -10,6 +10,7 @@ import com.tamantaw.projectx.persistence.exception.ConsistencyViolationException
 import com.tamantaw.projectx.persistence.exception.PersistenceException;
 import com.tamantaw.projectx.persistence.mapper.RoleActionMapper;
 import com.tamantaw.projectx.persistence.mapper.base.MappingContext;
+import com.tamantaw.projectx.persistence.repository.EffectivePermissionRepository;
 import com.tamantaw.projectx.persistence.repository.RoleActionRepository;
 import com.tamantaw.projectx.persistence.service.base.BaseService;
 import jakarta.persistence.EntityManager;
@@ -38,17 +39,25 @@ public class RoleActionService
 	private final EntityManager entityManager;
 	private final RoleActionRepository roleActionRepository;
 	private final MappingContext mappingContext;
+	private final EffectivePermissionRepository effectivePermissionRepository;
 
 	@Autowired
 	public RoleActionService(
 			RoleActionRepository roleActionRepository,
 			RoleActionMapper mapper,
 			EntityManager entityManager,
-			MappingContext mappingContext) {
+			MappingContext mappingContext,
+			EffectivePermissionRepository effectivePermissionRepository) {
 		super(roleActionRepository, mapper);
 		this.entityManager = entityManager;
 		this.roleActionRepository = roleActionRepository;
 		this.mappingContext = mappingContext;
+		this.effectivePermissionRepository = effectivePermissionRepository;
+	}
+
+	@Override
+	protected void afterWrite() {
+		effectivePermissionRepository.refreshBeforeCommit();
 	}
 
 	@Override
@@ -97,6 +106,7 @@ public class RoleActionService
 			// ------------------------------------------------------------
 			RoleAction saved =
 					roleActionRepository.saveRecord(entity);
+			afterWrite();
 
 			log.info("{} CREATE success id={}", c, saved.getId());
 
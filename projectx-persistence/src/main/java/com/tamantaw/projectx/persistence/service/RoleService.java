@@ -1,7 +1,6 @@
 package com.tamantaw.projectx.persistence.service;
 
 import com.tamantaw.projectx.persistence.config.PrimaryPersistenceContext;
-import com.tamantaw.projectx.persistence.criteria.ActionCriteria;
 import com.tamantaw.projectx.persistence.criteria.RoleCriteria;
 import com.tamantaw.projectx.persistence.dto.RoleDTO;
 import com.tamantaw.projectx.persistence.entity.*;
@@ -9,7 +8,9 @@ import com.tamantaw.projectx.persistence.exception.ConsistencyViolationException
 import com.tamantaw.projectx.persistence.exception.ContentNotFoundException;
 import com.tamantaw.projectx.persistence.exception.PersistenceException;
 import com.tamantaw.projectx.persistence.mapper.RoleMapper;
+import com.tamantaw.projectx.persistence.repository.EffectivePermissionRepository;
 import com.tamantaw.projectx.persistence.repository.RoleRepository;
+import com.tamantaw.projectx.persistence.repository.base.Projection;
 import com.tamantaw.projectx.persistence.repository.base.UpdateSpec;
 import com.tamantaw.projectx.persistence.service.base.BaseService;
 import jakarta.persistence.EntityManager;
@@ -40,17 +41,53 @@ public class RoleService
 	private static final Logger serviceLogger =
 			LogManager.getLogger("serviceLogs." + RoleService.class.getSimpleName());
 
+	/**
+	 * Data-table row: the scalar columns of {@link RoleDTO}, selected without loading entities.
+	 */
+	public static final Projection<RoleDTO> DATA_TABLE_ROW = Projection.bean(
+			RoleDTO.class,
+			QRole.role.id,
+			QRole.role.createdBy,
+			QRole.role.createdDate,
+			QRole.role.updatedBy,
+			QRole.role.updatedDate,
+			QRole.role.appName,
+			QRole.role.name,
+			QRole.role.roleType,
+			QRole.role.description
+	);
+
 	private final EntityManager entityManager;
 	private final RoleRepository roleRepository;
+	private final EffectivePermissionRepository effectivePermissionRepository;
 
 	@Autowired
-	public RoleService(RoleRepository roleRepository, RoleMapper mapper, EntityManager entityManager) {
+	public RoleService(
+			RoleRepository roleRepository,
+			RoleMapper mapper,
+			EntityManager entityManager,
+			EffectivePermissionRepository effectivePermissionRepository) {
 
 		super(roleRepository, mapper);
 		this.entityManager = entityManager;
 		this.roleRepository = roleRepository;
+		this.effectivePermissionRepository = effectivePermissionRepository;
+	}
+
+	@Override
+	protected void afterWrite() {
+		effectivePermissionRepository.refreshBeforeCommit();
 	}
 
+	/**
+	 * Role names (of {@code appName}) granting each action, keyed by action ID.
+	 *
+	 * <p>
+	 * One tuple-projection query ({@link RoleRepository#selectRoleNamesByActionIds}):
+	 * no entity graph, no persistence-context snapshots, no ID-first paging path.
+	 * Rows are grouped in a primitive-keyed map; only the result is boxed.
+	 * </p>
+	 */
 	@Transactional(transactionManager = PrimaryPersistenceContext.TX_MANAGER, readOnly = true)
 	public Map<Long, Set<String>> selectRoleNamesByActionIds(
 			Set<Long> actionIds,
@@ -61,39 +98,7 @@ public class RoleService
 		Assert.notNull(appName, "App name must not be null");
 
 		try {
-			RoleCriteria roleCriteria = new RoleCriteria();
-			roleCriteria.setAppName(appName);
-
-			ActionCriteria actionCriteria = new ActionCriteria();
-			actionCriteria.setIncludeIds(actionIds);
-			actionCriteria.setAppName(appName);
-
-			roleCriteria.setAction(actionCriteria);
-
-			List<Role> roles = roleRepository.findAll(roleCriteria, "Role(roleActions)");
-
-			if (roles == null || roles.isEmpty()) {
-				return Collections.emptyMap();
-			}
-
-			// GROUP BY actionId
-			return roles.stream()
-					.filter(r -> r.getRoleActions() != null)
-					.flatMap(r ->
-							r.getRoleActions().stream()
-									.map(ra -> Map.entry(
-											ra.getAction().getId(),
-											r.getName()
-									))
-					)
-					.filter(e -> e.getKey() != null && e.getValue() != null)
-					.collect(Collectors.groupingBy(
-							Map.Entry::getKey,
-							Collectors.mapping(
-									Map.Entry::getValue,
-									Collectors.toSet()
-							)
-					));
+			return roleRepository.selectRoleNamesByActionIds(actionIds, appName).toMap();
 		}
 		catch (Exception e) {
 			throw new PersistenceException(
@@ -191,6 +196,8 @@ public class RoleService
 			// ------------------------------------------------------------
 			Role saved = roleRepository.saveRecord(entity);
 
+			afterWrite();
+
 			serviceLogger.info(
 					"{} CREATE_WITH_ACTIONS_AND_ADMINS success id={} actions={} admins={}",
 					c,
@@ -345,6 +352,7 @@ public class RoleService
 			// 8. Flush changes (no reassign collections!)
 			// ------------------------------------------------------------
 			entityManager.flush();
+			afterWrite();
 
 			serviceLogger.info(
 					"{} UPDATE_WITH_ACTIONS_AND_ADMINS success roleId={} actions={} admins={} updatedBy={}",
@@ -6,13 +6,18 @@ import com.tamantaw.projectx.persistence.config.PrimaryPersistenceContext;
 import com.tamantaw.projectx.persistence.criteria.base.AbstractCriteria;
 import com.tamantaw.projectx.persistence.dto.base.AbstractDTO;
 import com.tamantaw.projectx.persistence.dto.base.PaginatedResult;
+import com.tamantaw.projectx.persistence.dto.base.SliceResult;
 import com.tamantaw.projectx.persistence.entity.base.AbstractEntity;
 import com.tamantaw.projectx.persistence.exception.ConsistencyViolationException;
 import com.tamantaw.projectx.persistence.exception.PersistenceException;
 import com.tamantaw.projectx.persistence.mapper.base.AbstractMapper;
 import com.tamantaw.projectx.persistence.mapper.base.MappingContext;
 import com.tamantaw.projectx.persistence.repository.base.AbstractRepository;
+import com.tamantaw.projectx.persistence.repository.base.Projection;
+import com.tamantaw.projectx.persistence.repository.base.ToManyAggregate;
+import com.tamantaw.projectx.persistence.repository.base.RepositoryPage;
 import com.tamantaw.projectx.persistence.repository.base.UpdateSpec;
+import com.tamantaw.projectx.persistence.repository.base.UpsertSpec;
 import jakarta.persistence.EntityNotFoundException;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
@@ -20,6 +25,7 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.util.Assert;
 
@@ -27,8 +33,12 @@ import java.io.Serializable;
 import java.lang.reflect.Field;
 import java.lang.reflect.Modifier;
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.function.Consumer;
+import java.util.stream.StreamSupport;
 
 import static com.tamantaw.projectx.persistence.utils.LoggerConstants.DATA_INTEGRITY_VIOLATION_MSG;
 
@@ -163,6 +173,56 @@ public abstract class BaseService<
 		}
 	}
 
+	/**
+	 * Streaming alternative to {@link #findAll} for exports / unbounded result sets.
+	 *
+	 * <p>
+	 * Each chunk is mapped to DTOs and handed to {@code action} while the transaction
+	 * is still open; only one chunk of entities and DTOs is live at a time.
+	 * Ordering is identical to {@link #findAll}.
+	 * </p>
+	 *
+	 * <p>
+	 * A {@code Stream} is deliberately not exposed here: it would outlive the
+	 * transaction (and its cursor) when returned from a transactional method.
+	 * </p>
+	 *
+	 * @return number of records processed
+	 */
+	@Transactional(readOnly = true)
+	public long forEachChunk(
+			CRITERIA criteria,
+			int chunkSize,
+			Consumer<List<DTO>> action,
+			String... hints) throws PersistenceException {
+
+		Assert.notNull(criteria, "Criteria must not be null");
+		Assert.notNull(action, "Chunk action must not be null");
+
+		String c = ctx(criteria);
+		log.info("{} FOR_EACH_CHUNK start chunkSize={} , criteria={}, hints={}", c, chunkSize, criteria, hints);
+
+		try {
+			long processed = repository.forEachChunk(
+					criteria,
+					chunkSize,
+					chunk -> action.accept(mapper.mapToDtoList(chunk, mappingContext)),
+					hints
+			);
+
+			log.info("{} FOR_EACH_CHUNK success processed={}", c, processed);
+			return processed;
+		}
+		catch (Exception e) {
+			log.error("{} FOR_EACH_CHUNK failed chunkSize={} criteria={}, hints={}",
+					c, chunkSize, criteria, hints, e);
+
+			throw new PersistenceException(
+					"ForEachChunk failed criteria=" + criteriaName(criteria), e
+			);
+		}
+	}
+
 	@Transactional(readOnly = true)
 	public PaginatedResult<DTO> findByPaging(CRITERIA criteria, String... hints)
 			throws PersistenceException {
@@ -182,18 +242,7 @@ public abstract class BaseService<
 			log.info("{} FIND_PAGE success total={} size={}",
 					c, dtoPage.getTotalElements(), dtoPage.getNumberOfElements());
 
-			List<DTO> data = dtoPage.getContent();
-
-			return new PaginatedResult<>(
-					dtoPage.getTotalElements(),
-					dtoPage.getTotalElements(),
-					dtoPage.getTotalPages(),
-					dtoPage.getSize(),
-					dtoPage.getNumber(),
-					dtoPage.getNumberOfElements(),
-					dtoPage.getSort(),
-					data
-			);
+			return toPaginatedResult(page, dtoPage);
 		}
 		catch (Exception e) {
 			log.error("{} FIND_PAGE failed pageable={} criteria={} , hints={}",
@@ -205,6 +254,158 @@ public abstract class BaseService<
 		}
 	}
 
+	/**
+	 * Read-only page selected straight into {@code projection} rows:
+	 * no entity hydration, no dirty checking, no mapper.
+	 * Paging, sort validation and count modes are those of {@link #findByPaging}.
+	 */
+	@Transactional(readOnly = true)
+	public <T> PaginatedResult<T> findByPaging(CRITERIA criteria, Projection<T> projection)
+			throws PersistenceException {
+
+		Assert.notNull(criteria, "Criteria must not be null");
+		Pageable pageable = criteria.toPageable();
+		Assert.notNull(pageable, "Pageable must not be null");
+
+		String c = ctx(criteria);
+		log.info("{} FIND_PAGE_PROJECTION start pageable={} , criteria={}, projection={}",
+				c, pageable, criteria, projection);
+
+		try {
+			Page<T> page = repository.findByPaging(criteria, projection);
+
+			log.info("{} FIND_PAGE_PROJECTION success total={} size={}",
+					c, page.getTotalElements(), page.getNumberOfElements());
+
+			return toPaginatedResult(page, page);
+		}
+		catch (Exception e) {
+			log.error("{} FIND_PAGE_PROJECTION failed pageable={} criteria={} , projection={}",
+					c, pageable, criteria, projection, e);
+
+			throw new PersistenceException(
+					"FindPageProjection failed criteria=" + criteriaName(criteria), e
+			);
+		}
+	}
+
+	@Transactional(readOnly = true)
+	public <T> List<T> findAll(CRITERIA criteria, Projection<T> projection) throws PersistenceException {
+
+		Assert.notNull(criteria, "Criteria must not be null");
+
+		String c = ctx(criteria);
+		log.info("{} FIND_ALL_PROJECTION start criteria={}, projection={}", c, criteria, projection);
+
+		try {
+			List<T> rows = repository.findAll(criteria, projection);
+
+			log.info("{} FIND_ALL_PROJECTION success size={}", c, rows.size());
+			return rows;
+		}
+		catch (Exception e) {
+			log.error("{} FIND_ALL_PROJECTION failed criteria={}, projection={}", c, criteria, projection, e);
+			throw new PersistenceException(
+					"FindAllProjection failed criteria=" + criteriaName(criteria), e
+			);
+		}
+	}
+
+	/**
+	 * To-many labels (e.g. role names) for a page of root IDs, one grouped query.
+	 * Pair with a projected page instead of a collection fetch graph.
+	 */
+	@Transactional(readOnly = true)
+	public <V> Map<ID, List<V>> aggregateByIds(Collection<ID> ids, ToManyAggregate<V> aggregate)
+			throws PersistenceException {
+
+		Assert.notNull(aggregate, "Aggregate must not be null");
+
+		String c = String.format("[service=%s]", serviceName());
+		log.info("{} AGGREGATE start ids={} aggregate={}", c, ids == null ? 0 : ids.size(), aggregate);
+
+		try {
+			Map<ID, List<V>> values = repository.aggregateByIds(ids, aggregate);
+
+			log.info("{} AGGREGATE success roots={}", c, values.size());
+			return values;
+		}
+		catch (Exception e) {
+			log.error("{} AGGREGATE failed aggregate={}", c, aggregate, e);
+			throw new PersistenceException(
+					"Aggregate failed aggregate=" + aggregate, e
+			);
+		}
+	}
+
+	/**
+	 * {@code source} is the repository page (cursors / token / exactness),
+	 * {@code content} the page of rows handed to the caller.
+	 */
+	private static <T> PaginatedResult<T> toPaginatedResult(Page<?> source, Page<T> content) {
+
+		PaginatedResult<T> result = new PaginatedResult<>(
+				content.getTotalElements(),
+				content.getTotalElements(),
+				content.getTotalPages(),
+				content.getSize(),
+				content.getNumber(),
+				content.getNumberOfElements(),
+				content.getSort(),
+				content.getContent()
+		);
+
+		// KEYSET cursors, SNAPSHOT token + exactness of the total (CAPPED / ESTIMATE count modes)
+		if (source instanceof RepositoryPage<?> repositoryPage) {
+			result.setNextCursor(repositoryPage.getNextCursor());
+			result.setPreviousCursor(repositoryPage.getPreviousCursor());
+			result.setSearchToken(repositoryPage.getSearchToken());
+			result.setTotalExact(repositoryPage.isTotalExact());
+		}
+
+		return result;
+	}
+
+	/**
+	 * Infinite-scroll read: page content + {@code hasNext}, never counts.
+	 */
+	@Transactional(readOnly = true)
+	public SliceResult<DTO> findSlice(CRITERIA criteria, String... hints)
+			throws PersistenceException {
+
+		Assert.notNull(criteria, "Criteria must not be null");
+		Pageable pageable = criteria.toPageable();
+		Assert.notNull(pageable, "Pageable must not be null");
+
+		String c = ctx(criteria);
+		log.info("{} FIND_SLICE start pageable={} , criteria={}, hints={}", c, pageable, criteria, hints);
+
+		try {
+			Slice<DTO> slice = repository.findSlice(criteria, hints)
+					.map(e -> mapper.toDto(e, mappingContext));
+
+			log.info("{} FIND_SLICE success size={} hasNext={}",
+					c, slice.getNumberOfElements(), slice.hasNext());
+
+			return new SliceResult<>(
+					slice.getSize(),
+					slice.getNumber(),
+					slice.getNumberOfElements(),
+					slice.hasNext(),
+					slice.getSort(),
+					slice.getContent()
+			);
+		}
+		catch (Exception e) {
+			log.error("{} FIND_SLICE failed pageable={} criteria={} , hints={}",
+					c, pageable, criteria, hints, e);
+
+			throw new PersistenceException(
+					"FindSlice failed criteria=" + criteriaName(criteria), e
+			);
+		}
+	}
+
 	@Transactional(readOnly = true)
 	public boolean exists(CRITERIA criteria) throws PersistenceException {
 
@@ -269,6 +470,7 @@ public abstract class BaseService<
 			entity.setUpdatedBy(createdBy);
 
 			ENTITY saved = repository.saveRecord(entity);
+			afterWrite();
 
 			log.info("{} CREATE success id={}", c, saved.getId());
 			return mapper.toDto(saved, mappingContext);
@@ -315,6 +517,7 @@ public abstract class BaseService<
 			}
 
 			List<ENTITY> saved = repository.saveAllRecords(entities);
+			afterWrite();
 
 			log.info("{} CREATE_ALL success savedSize={}", c, saved.size());
 			return saved;
@@ -332,6 +535,111 @@ public abstract class BaseService<
 		}
 	}
 
+	/**
+	 * Bulk import through PostgreSQL {@code COPY} (see {@code AbstractRepository#copyInsert}).
+	 *
+	 * <p>
+	 * DTOs are mapped lazily while rows are streamed; audit fields are filled as in
+	 * {@link #create}. Returned count is the number of inserted rows.
+	 * </p>
+	 */
+	public long copyAll(Iterable<DTO> dtos, long createdBy)
+			throws PersistenceException, ConsistencyViolationException {
+
+		Assert.notNull(dtos, "DTO list must not be null");
+
+		String c = String.format(
+				"[service=%s][op=%s]",
+				serviceName(),
+				"CopyAll"
+		);
+
+		log.info("{} COPY_ALL start createdBy={}", c, createdBy);
+
+		try {
+			Iterable<ENTITY> entities = () -> StreamSupport.stream(dtos.spliterator(), false)
+					.map(this::toBulkEntity)
+					.iterator();
+
+			long inserted = repository.copyInsert(entities, createdBy);
+			afterWrite();
+
+			log.info("{} COPY_ALL success inserted={}", c, inserted);
+			return inserted;
+		}
+		catch (DataIntegrityViolationException e) {
+			log.error("{} COPY_ALL integrity violation", c, e);
+			throw new ConsistencyViolationException(DATA_INTEGRITY_VIOLATION_MSG, e);
+		}
+		catch (Exception e) {
+			log.error("{} COPY_ALL failed", c, e);
+			throw new PersistenceException("CopyAll failed service=" + serviceName(), e);
+		}
+	}
+
+	/**
+	 * Batched native upsert (see {@code AbstractRepository#upsert}).
+	 *
+	 * <p>
+	 * Conflicts on {@code spec}'s unique constraint update the listed properties instead of
+	 * failing the transaction; no {@code exists()} pre-check is needed.
+	 * </p>
+	 */
+	public long upsertAll(Iterable<DTO> dtos, UpsertSpec spec, long updatedBy)
+			throws PersistenceException, ConsistencyViolationException {
+
+		Assert.notNull(dtos, "DTO list must not be null");
+		Assert.notNull(spec, "UpsertSpec must not be null");
+
+		String c = String.format(
+				"[service=%s][op=%s]",
+				serviceName(),
+				"UpsertAll"
+		);
+
+		log.info("{} UPSERT_ALL start updatedBy={} , spec={}", c, updatedBy, spec);
+
+		try {
+			Iterable<ENTITY> entities = () -> StreamSupport.stream(dtos.spliterator(), false)
+					.map(this::toBulkEntity)
+					.iterator();
+
+			long affected = repository.upsert(entities, spec, updatedBy);
+			afterWrite();
+
+			log.info("{} UPSERT_ALL success affectedRows={}", c, affected);
+			return affected;
+		}
+		catch (DataIntegrityViolationException e) {
+			log.error("{} UPSERT_ALL integrity violation spec={}", c, spec, e);
+			throw new ConsistencyViolationException(DATA_INTEGRITY_VIOLATION_MSG, e);
+		}
+		catch (Exception e) {
+			log.error("{} UPSERT_ALL failed spec={}", c, spec, e);
+			throw new PersistenceException("UpsertAll failed service=" + serviceName(), e);
+		}
+	}
+
+	/**
+	 * Called inside the transaction after every successful write of this service
+	 * (create / update / delete / bulk). Default: nothing.
+	 *
+	 * <p>
+	 * Override to keep derived data in step (e.g. schedule a materialized view refresh).
+	 * Overridden write methods must call it themselves.
+	 * </p>
+	 */
+	protected void afterWrite() {
+	}
+
+	/**
+	 * DTO → entity for {@link #copyAll} / {@link #upsertAll}. Override to attach
+	 * to-one references that the mapper ignores.
+	 */
+	protected ENTITY toBulkEntity(DTO dto) {
+		return mapper.toEntity(dto);
+	}
+
 // ----------------------------------------------------------------------
 // UPDATE / DELETE
 // ----------------------------------------------------------------------
@@ -364,6 +672,8 @@ public abstract class BaseService<
 				);
 			}
 
+			afterWrite();
+
 			return findById(id).orElseThrow(
 					() -> new IllegalStateException(
 							"Entity disappeared after update id=" + id
@@ -396,6 +706,7 @@ public abstract class BaseService<
 
 		try {
 			long affected = repository.updateByCriteria(spec, criteria, updatedBy);
+			afterWrite();
 
 			log.info("{} UPDATE success affectedRows={}", c, affected);
 			return affected;
@@ -424,7 +735,9 @@ public abstract class BaseService<
 		);
 
 		try {
-			return repository.deleteWithId(id);
+			boolean deleted = repository.deleteWithId(id);
+			afterWrite();
+			return deleted;
 		}
 		catch (Exception e) {
 			log.error("{} FIND_BY_ID failed", c, e);
@@ -442,6 +755,7 @@ public abstract class BaseService<
 
 		try {
 			long deleted = repository.deleteByCriteria(criteria);
+			afterWrite();
 
 			log.info("{} DELETE success deletedRows={}", c, deleted);
 			return deleted;
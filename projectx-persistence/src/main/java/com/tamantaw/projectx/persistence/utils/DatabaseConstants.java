@@ -0,0 +1,20 @@
+package com.tamantaw.projectx.persistence.utils;
+
+/**
+ * Database switches shared by the criteria, utils and repository layers.
+ *
+ * <p>
+ * {@code AbstractRepositoryImpl.IS_POSTGRES_DB} re-exports {@link #IS_POSTGRES_DB};
+ * it lives here so predicate helpers and criteria do not depend on the repository package.
+ * </p>
+ */
+public final class DatabaseConstants {
+
+	/**
+	 * Whether the underlying database is PostgreSQL (see {@code AbstractRepositoryImpl.IS_POSTGRES_DB}).
+	 */
+	public static final boolean IS_POSTGRES_DB = true;
+
+	private DatabaseConstants() {
+	}
+}
@@ -0,0 +1,119 @@
+package com.tamantaw.projectx.persistence.utils;
+
+import com.querydsl.core.types.Expression;
+import com.querydsl.core.types.dsl.BooleanExpression;
+import com.querydsl.core.types.dsl.Expressions;
+import com.querydsl.core.types.dsl.SimpleExpression;
+
+import java.lang.reflect.Array;
+import java.util.Collection;
+
+import static com.tamantaw.projectx.persistence.utils.DatabaseConstants.IS_POSTGRES_DB;
+
+/**
+ * ID-list predicates with one SQL shape regardless of list size.
+ *
+ * <p>
+ * PostgreSQL: the collection is bound as a single array parameter
+ * ({@code id = any(?)} / {@code id <> all(?)}) through the HQL functions
+ * registered by {@code PostgresFunctionContributor}.
+ * Other databases: regular {@code IN (?, ?, ...)}.
+ * </p>
+ *
+ * <p>
+ * STRICT:
+ * Callers must not pass an empty collection (same contract as {@code IN}).
+ * </p>
+ */
+public final class IdPredicates {
+
+	public static final String ID_ANY = "id_any";
+	public static final String ID_NOT_ANY = "id_not_any";
+	public static final String ID_ARRAY_OVERLAPS = "id_array_overlaps";
+
+	private IdPredicates() {
+	}
+
+	public static <T> BooleanExpression in(SimpleExpression<T> id, Collection<? extends T> ids) {
+
+		if (!IS_POSTGRES_DB) {
+			return id.in(ids);
+		}
+
+		return Expressions.booleanTemplate(
+				ID_ANY + "({0}, {1}) = true",
+				id,
+				toArray(id, ids)
+		);
+	}
+
+	public static <T> BooleanExpression notIn(SimpleExpression<T> id, Collection<? extends T> ids) {
+
+		if (!IS_POSTGRES_DB) {
+			return id.notIn(ids);
+		}
+
+		return Expressions.booleanTemplate(
+				ID_NOT_ANY + "({0}, {1}) = true",
+				id,
+				toArray(id, ids)
+		);
+	}
+
+	/**
+	 * Primitive variant for {@code LongIdList} chunks / pages.
+	 */
+	public static BooleanExpression in(SimpleExpression<Long> id, long[] ids) {
+
+		if (ids == null || ids.length == 0) {
+			throw new IllegalArgumentException("ID collection must not be empty");
+		}
+
+		Long[] boxed = new Long[ids.length];
+		for (int i = 0; i < ids.length; i++) {
+			boxed[i] = ids[i];
+		}
+
+		if (!IS_POSTGRES_DB) {
+			return id.in(boxed);
+		}
+
+		return Expressions.booleanTemplate(
+				ID_ANY + "({0}, {1}) = true",
+				id,
+				boxed
+		);
+	}
+
+	/**
+	 * {@code idArray && ?} — an ID-array column shares at least one element with {@code ids}
+	 * (GIN indexable). PostgreSQL only; callers keep their own fallback.
+	 */
+	public static BooleanExpression overlaps(Expression<Long[]> idArray, Collection<Long> ids) {
+
+		if (!IS_POSTGRES_DB) {
+			throw new IllegalStateException("Array overlap predicates require PostgreSQL");
+		}
+
+		if (ids == null || ids.isEmpty()) {
+			throw new IllegalArgumentException("ID collection must not be empty");
+		}
+
+		return Expressions.booleanTemplate(
+				ID_ARRAY_OVERLAPS + "({0}, {1}) = true",
+				idArray,
+				ids.toArray(new Long[0])
+		);
+	}
+
+	private static <T> Object toArray(SimpleExpression<T> id, Collection<? extends T> ids) {
+
+		if (ids == null || ids.isEmpty()) {
+			throw new IllegalArgumentException("ID collection must not be empty");
+		}
+
+		// Typed array (Long[] → bigint[]); Object[] would not bind as a SQL array
+		Object[] array = (Object[]) Array.newInstance(id.getType(), ids.size());
+		return ids.toArray(array);
+	}
+}
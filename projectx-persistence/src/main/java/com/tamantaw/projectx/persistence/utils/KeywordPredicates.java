@@ -0,0 +1,109 @@
+package com.tamantaw.projectx.persistence.utils;
+
+import com.querydsl.core.types.dsl.BooleanExpression;
+import com.querydsl.core.types.dsl.Expressions;
+import com.querydsl.core.types.dsl.NumberExpression;
+import com.querydsl.core.types.dsl.StringExpression;
+import com.querydsl.core.types.dsl.StringPath;
+
+import static com.tamantaw.projectx.persistence.utils.DatabaseConstants.IS_POSTGRES_DB;
+
+/**
+ * Keyword ("search box") predicates with one indexed SQL shape.
+ *
+ * <p>
+ * PostgreSQL: a single {@code search_text LIKE lower('%kw%')} on the generated, lower-cased
+ * {@code search_text} column (V1_5), served by its {@code pg_trgm} GIN index.
+ * Other databases: the equivalent {@code lower(col) like lower('%kw%')} OR chain.
+ * The keyword is lower-cased by the database, with the same {@code lower()} as the column,
+ * never in Java (non-ASCII case folding differs between the two).
+ * </p>
+ *
+ * <p>
+ * STRICT:
+ * {@code columns} must be the columns {@code search_text} is generated from,
+ * so both shapes match the same rows.
+ * </p>
+ */
+public final class KeywordPredicates {
+
+	/**
+	 * Sort key for {@link #relevance} ordering (criteria {@code sortKeys}).
+	 */
+	public static final String RELEVANCE_SORT_KEY = "relevance";
+
+	public static final String TRGM_SIMILARITY = "trgm_similarity";
+
+	private static final char LIKE_ESCAPE = '!';
+
+	private KeywordPredicates() {
+	}
+
+	public static BooleanExpression matches(
+			StringPath searchText,
+			String keyword,
+			StringExpression... columns) {
+
+		StringExpression pattern = lower("%" + escapeLike(keyword.trim()) + "%");
+
+		if (IS_POSTGRES_DB) {
+			return searchText.like(pattern, LIKE_ESCAPE);
+		}
+
+		BooleanExpression any = null;
+		for (StringExpression column : columns) {
+			BooleanExpression match = column.lower().like(pattern, LIKE_ESCAPE);
+			any = any == null ? match : any.or(match);
+		}
+
+		if (any == null) {
+			throw new IllegalArgumentException("Keyword columns must not be empty");
+		}
+
+		return any;
+	}
+
+	/**
+	 * Trigram similarity of {@code search_text} to the keyword (0..1, higher = closer).
+	 *
+	 * @return {@code null} when unavailable (non-PostgreSQL or blank keyword)
+	 */
+	public static NumberExpression<Float> relevance(StringPath searchText, String keyword) {
+
+		if (!IS_POSTGRES_DB || keyword == null || keyword.isBlank()) {
+			return null;
+		}
+
+		return Expressions.numberTemplate(
+				Float.class,
+				TRGM_SIMILARITY + "({0}, {1})",
+				searchText,
+				lower(keyword.trim())
+		);
+	}
+
+	/**
+	 * {@code lower(?)} evaluated by the database.
+	 */
+	private static StringExpression lower(String value) {
+		return Expressions.stringTemplate("lower({0})", Expressions.constant(value));
+	}
+
+	/**
+	 * Keyword characters are literals, not LIKE wildcards.
+	 */
+	private static String escapeLike(String value) {
+
+		StringBuilder escaped = new StringBuilder(value.length() + 8);
+
+		for (int i = 0; i < value.length(); i++) {
+			char c = value.charAt(i);
+			if (c == LIKE_ESCAPE || c == '%' || c == '_') {
+				escaped.append(LIKE_ESCAPE);
+			}
+			escaped.append(c);
+		}
+
+		return escaped.toString();
+	}
+}
@@ -0,0 +1,67 @@
+package com.tamantaw.projectx.persistence.utils;
+
+/**
+ * Open-addressing set of primitive {@code long}s (linear probing, no boxing, no entry objects).
+ *
+ * <p>
+ * Not thread-safe. Intended for short-lived ID dedup on large ID lists.
+ * </p>
+ */
+public final class LongHashSet extends LongProbeTable {
+
+	private static final long EMPTY = 0L;
+
+	private boolean containsEmptyKey;
+
+	public LongHashSet() {
+		this(16);
+	}
+
+	public LongHashSet(int expectedSize) {
+		allocateKeys(LongHashing.tableSize(expectedSize));
+	}
+
+	/**
+	 * @return {@code true} if {@code value} was not present
+	 */
+	public boolean add(long value) {
+
+		if (value == EMPTY) {
+			if (containsEmptyKey) {
+				return false;
+			}
+			containsEmptyKey = true;
+			size++;
+			return true;
+		}
+
+		int slot = slotOf(value);
+
+		if (!isFree(slot)) {
+			return false;
+		}
+
+		keys[slot] = value;
+		inserted();
+
+		return true;
+	}
+
+	@Override
+	boolean isFree(int slot) {
+		return keys[slot] == EMPTY;
+	}
+
+	@Override
+	void rehash(int capacity) {
+
+		long[] old = keys;
+		allocateKeys(capacity);
+
+		for (long key : old) {
+			if (key != EMPTY) {
+				keys[slotOf(key)] = key;
+			}
+		}
+	}
+}
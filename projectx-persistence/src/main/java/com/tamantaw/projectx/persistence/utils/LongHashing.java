@@ -0,0 +1,38 @@
+package com.tamantaw.projectx.persistence.utils;
+
+/**
+ * Shared hashing helpers for the primitive {@code long} collections.
+ */
+final class LongHashing {
+
+	private static final int MAX_CAPACITY = 1 << 30;
+
+	private LongHashing() {
+	}
+
+	/**
+	 * Fibonacci hashing: spreads sequential IDs over the whole table.
+	 */
+	static int mix(long key) {
+		long h = key * 0x9E3779B97F4A7C15L;
+		return (int) (h ^ (h >>> 32));
+	}
+
+	/**
+	 * Power-of-two table size keeping the load factor at or below 0.5.
+	 */
+	static int tableSize(int expectedSize) {
+
+		if (expectedSize < 0) {
+			throw new IllegalArgumentException("Expected size must not be negative: " + expectedSize);
+		}
+
+		long wanted = Math.max(4L, (long) expectedSize * 2);
+
+		if (wanted >= MAX_CAPACITY) {
+			return MAX_CAPACITY;
+		}
+
+		return Integer.highestOneBit((int) wanted - 1) << 1;
+	}
+}
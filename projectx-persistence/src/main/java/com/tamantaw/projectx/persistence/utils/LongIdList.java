@@ -0,0 +1,68 @@
+package com.tamantaw.projectx.persistence.utils;
+
+import java.util.Arrays;
+import java.util.Objects;
+
+/**
+ * Growable ordered list of primitive {@code long} IDs ({@code long[]}-backed, 8 bytes per ID).
+ *
+ * <p>
+ * Replaces {@code List<Long>} on bulk paths, where millions of boxed IDs
+ * would otherwise be allocated and retained. Not thread-safe.
+ * </p>
+ */
+public final class LongIdList {
+
+	private long[] values;
+	private int size;
+
+	public LongIdList() {
+		this(16);
+	}
+
+	public LongIdList(int initialCapacity) {
+
+		if (initialCapacity < 0) {
+			throw new IllegalArgumentException("Capacity must not be negative: " + initialCapacity);
+		}
+
+		values = new long[initialCapacity];
+	}
+
+	public void add(long id) {
+
+		if (size == values.length) {
+			values = Arrays.copyOf(values, Math.max(16, values.length + (values.length >>> 1)));
+		}
+
+		values[size++] = id;
+	}
+
+	public long get(int index) {
+		Objects.checkIndex(index, size);
+		return values[index];
+	}
+
+	public int size() {
+		return size;
+	}
+
+	public boolean isEmpty() {
+		return size == 0;
+	}
+
+	/**
+	 * Copy of all IDs, in list order.
+	 */
+	public long[] toArray() {
+		return Arrays.copyOf(values, size);
+	}
+
+	/**
+	 * Copy of {@code [from, to)}, in list order (e.g. one bulk chunk or one page).
+	 */
+	public long[] toArray(int from, int to) {
+		Objects.checkFromToIndex(from, to, size);
+		return Arrays.copyOfRange(values, from, to);
+	}
+}
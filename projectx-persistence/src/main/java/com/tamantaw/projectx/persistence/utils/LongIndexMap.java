@@ -0,0 +1,99 @@
+package com.tamantaw.projectx.persistence.utils;
+
+import java.util.Arrays;
+
+/**
+ * Open-addressing map from primitive {@code long} keys to non-negative {@code int} values,
+ * typically an ID's position in an ordered ID list.
+ *
+ * <p>
+ * Not thread-safe. {@link #get} returns {@code -1} for absent keys.
+ * </p>
+ */
+public final class LongIndexMap extends LongProbeTable {
+
+	/**
+	 * Free-slot marker (values are never negative, so every key, including 0, is storable).
+	 */
+	private static final int ABSENT = -1;
+
+	private int[] values;
+
+	public LongIndexMap() {
+		this(16);
+	}
+
+	public LongIndexMap(int expectedSize) {
+		allocate(LongHashing.tableSize(expectedSize));
+	}
+
+	/**
+	 * Maps each ID to its first position in {@code ids}.
+	 */
+	public static LongIndexMap positionsOf(long[] ids) {
+
+		LongIndexMap positions = new LongIndexMap(ids.length);
+
+		for (int i = 0; i < ids.length; i++) {
+			positions.putIfAbsent(ids[i], i);
+		}
+
+		return positions;
+	}
+
+	/**
+	 * @return the existing value, or {@code -1} if {@code value} was stored
+	 */
+	public int putIfAbsent(long key, int value) {
+
+		if (value < 0) {
+			throw new IllegalArgumentException("Value must not be negative: " + value);
+		}
+
+		int slot = slotOf(key);
+
+		if (values[slot] != ABSENT) {
+			return values[slot];
+		}
+
+		keys[slot] = key;
+		values[slot] = value;
+		inserted();
+
+		return ABSENT;
+	}
+
+	/**
+	 * @return the value for {@code key}, or {@code -1}
+	 */
+	public int get(long key) {
+		return values[slotOf(key)];
+	}
+
+	@Override
+	boolean isFree(int slot) {
+		return values[slot] == ABSENT;
+	}
+
+	private void allocate(int capacity) {
+		allocateKeys(capacity);
+		values = new int[capacity];
+		Arrays.fill(values, ABSENT);
+	}
+
+	@Override
+	void rehash(int capacity) {
+
+		long[] oldKeys = keys;
+		int[] oldValues = values;
+		allocate(capacity);
+
+		for (int i = 0; i < oldKeys.length; i++) {
+			if (oldValues[i] != ABSENT) {
+				int slot = slotOf(oldKeys[i]);
+				keys[slot] = oldKeys[i];
+				values[slot] = oldValues[i];
+			}
+		}
+	}
+}
@@ -0,0 +1,113 @@
+package com.tamantaw.projectx.persistence.utils;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.function.LongFunction;
+
+/**
+ * Open-addressing map from primitive {@code long} keys to non-null object values
+ * (linear probing, no key boxing, no entry objects).
+ *
+ * <p>
+ * Not thread-safe. Intended for grouping query rows by ID; {@link #get} returns {@code null}
+ * for absent keys.
+ * </p>
+ */
+public final class LongObjectHashMap<V> extends LongProbeTable {
+
+	/**
+	 * {@code null} marks a free slot (values are never null, so every key, including 0, is storable).
+	 */
+	private Object[] values;
+
+	public LongObjectHashMap() {
+		this(16);
+	}
+
+	public LongObjectHashMap(int expectedSize) {
+		allocate(LongHashing.tableSize(expectedSize));
+	}
+
+	/**
+	 * @return the value for {@code key}, or {@code null}
+	 */
+	public V get(long key) {
+		return value(slotOf(key));
+	}
+
+	public V getOrDefault(long key, V defaultValue) {
+		V value = get(key);
+		return value != null ? value : defaultValue;
+	}
+
+	/**
+	 * @return the existing value, or the (non-null) value created by {@code factory} and stored
+	 */
+	public V computeIfAbsent(long key, LongFunction<? extends V> factory) {
+
+		int slot = slotOf(key);
+
+		if (!isFree(slot)) {
+			return value(slot);
+		}
+
+		V created = factory.apply(key);
+
+		if (created == null) {
+			throw new IllegalArgumentException("Value must not be null for key: " + key);
+		}
+
+		keys[slot] = key;
+		values[slot] = created;
+		inserted();
+
+		return created;
+	}
+
+	/**
+	 * Boxed copy for public APIs (one {@code Long} per entry, built once the grouping is done).
+	 */
+	public Map<Long, V> toMap() {
+
+		Map<Long, V> map = HashMap.newHashMap(size);
+
+		for (int slot = 0; slot < keys.length; slot++) {
+			if (values[slot] != null) {
+				map.put(keys[slot], value(slot));
+			}
+		}
+
+		return map;
+	}
+
+	@Override
+	boolean isFree(int slot) {
+		return values[slot] == null;
+	}
+
+	@SuppressWarnings("unchecked")
+	private V value(int slot) {
+		return (V) values[slot];
+	}
+
+	private void allocate(int capacity) {
+		allocateKeys(capacity);
+		values = new Object[capacity];
+	}
+
+	@Override
+	void rehash(int capacity) {
+
+		long[] oldKeys = keys;
+		Object[] oldValues = values;
+		allocate(capacity);
+
+		for (int i = 0; i < oldKeys.length; i++) {
+			if (oldValues[i] != null) {
+				int slot = slotOf(oldKeys[i]);
+				keys[slot] = oldKeys[i];
+				values[slot] = oldValues[i];
+			}
+		}
+	}
+}
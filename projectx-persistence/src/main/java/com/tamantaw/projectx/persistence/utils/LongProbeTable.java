@@ -0,0 +1,64 @@
+package com.tamantaw.projectx.persistence.utils;
+
+/**
+ * Shared linear-probing core of the primitive {@code long}-keyed collections.
+ *
+ * <p>
+ * Subclasses own the value side of the table: they decide which slots are free,
+ * allocate their value arrays next to {@link #keys} and move entries on rehash.
+ * The load factor is kept at or below 0.5, so a probe always reaches a free slot.
+ * </p>
+ */
+abstract class LongProbeTable {
+
+	long[] keys;
+	int mask;
+	int size;
+
+	/**
+	 * @return {@code true} if {@code slot} holds no entry
+	 */
+	abstract boolean isFree(int slot);
+
+	/**
+	 * Grows the table to {@code capacity} and re-inserts every entry through {@link #slotOf}.
+	 */
+	abstract void rehash(int capacity);
+
+	/**
+	 * @return the slot holding {@code key}, or the free slot where it belongs
+	 */
+	final int slotOf(long key) {
+
+		int slot = LongHashing.mix(key) & mask;
+
+		while (!isFree(slot) && keys[slot] != key) {
+			slot = (slot + 1) & mask;
+		}
+
+		return slot;
+	}
+
+	final void allocateKeys(int capacity) {
+		keys = new long[capacity];
+		mask = capacity - 1;
+	}
+
+	/**
+	 * Counts one stored entry, doubling the table once it is more than half full.
+	 */
+	final void inserted() {
+
+		if (++size > (keys.length >>> 1)) {
+			rehash(keys.length << 1);
+		}
+	}
+
+	public int size() {
+		return size;
+	}
+
+	public boolean isEmpty() {
+		return size == 0;
+	}
+}
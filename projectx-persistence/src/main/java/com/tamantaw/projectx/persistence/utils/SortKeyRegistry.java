@@ -0,0 +1,149 @@
+package com.tamantaw.projectx.persistence.utils;
+
+import com.querydsl.core.types.Order;
+import com.querydsl.core.types.OrderSpecifier;
+import com.querydsl.core.types.dsl.ComparableExpressionBase;
+import com.querydsl.core.types.dsl.EntityPathBase;
+import com.querydsl.core.types.dsl.PathBuilder;
+import jakarta.persistence.metamodel.ManagedType;
+import jakarta.persistence.metamodel.SingularAttribute;
+import org.springframework.data.domain.Sort;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+
+/**
+ * Whitelist of string sort keys for one entity, with pre-built {@link OrderSpecifier}s.
+ *
+ * <p>
+ * Built once from the JPA metamodel when the repository initializes. Allowed keys:
+ * <ul>
+ *   <li>orderable basic attributes of the root ({@code "name"})</li>
+ *   <li>their embeddable counterparts ({@code "address.city"})</li>
+ *   <li>orderable basic attributes of to-one associations ({@code "administrator.name"})</li>
+ * </ul>
+ * Orderable = Comparable, enum or primitive (same rule as the repository sort-safety check).
+ * Collection-valued paths never get a key.
+ * </p>
+ *
+ * <p>
+ * Per request, a sort key is one map lookup; the specifiers are immutable and shared.
+ * </p>
+ */
+public final class SortKeyRegistry {
+
+	/**
+	 * Levels of to-one navigation below the root.
+	 */
+	private static final int MAX_TO_ONE_DEPTH = 1;
+
+	private final String entityName;
+	private final Map<String, OrderSpecifier<?>> ascending;
+	private final Map<String, OrderSpecifier<?>> descending;
+
+	private SortKeyRegistry(
+			String entityName,
+			Map<String, OrderSpecifier<?>> ascending,
+			Map<String, OrderSpecifier<?>> descending) {
+
+		this.entityName = entityName;
+		this.ascending = Map.copyOf(ascending);
+		this.descending = Map.copyOf(descending);
+	}
+
+	static SortKeyRegistry of(EntityPathBase<?> root, ManagedType<?> rootType) {
+
+		Map<String, OrderSpecifier<?>> asc = new HashMap<>();
+		Map<String, OrderSpecifier<?>> desc = new HashMap<>();
+
+		collect(new PathBuilder<>(root.getType(), root.getMetadata()), "", rootType, 0, asc, desc);
+
+		return new SortKeyRegistry(root.getType().getSimpleName(), asc, desc);
+	}
+
+	/**
+	 * @throws IllegalArgumentException unknown / not whitelisted key
+	 */
+	public OrderSpecifier<?> resolve(String key, Sort.Direction direction) {
+
+		OrderSpecifier<?> spec = direction.isAscending()
+				? ascending.get(key)
+				: descending.get(key);
+
+		if (spec == null) {
+			throw new IllegalArgumentException(
+					"Unsupported sort key '" + key + "' for " + entityName + ". Allowed: " + keys()
+			);
+		}
+
+		return spec;
+	}
+
+	public boolean contains(String key) {
+		return ascending.containsKey(key);
+	}
+
+	public Set<String> keys() {
+		return new TreeSet<>(ascending.keySet());
+	}
+
+	// ----------------------------------------------------------------------
+	// METAMODEL WALK
+	// ----------------------------------------------------------------------
+
+	private static void collect(
+			PathBuilder<?> parent,
+			String prefix,
+			ManagedType<?> type,
+			int depth,
+			Map<String, OrderSpecifier<?>> asc,
+			Map<String, OrderSpecifier<?>> desc) {
+
+		for (SingularAttribute<?, ?> attribute : type.getSingularAttributes()) {
+
+			String name = attribute.getName();
+			String key = prefix + name;
+
+			switch (attribute.getPersistentAttributeType()) {
+
+				case BASIC -> {
+					if (isOrderable(attribute.getJavaType())) {
+						ComparableExpressionBase<?> expr = parent.getComparable(name, Comparable.class);
+						asc.put(key, new OrderSpecifier<>(Order.ASC, expr));
+						desc.put(key, new OrderSpecifier<>(Order.DESC, expr));
+					}
+				}
+
+				case EMBEDDED -> collect(
+						parent.get(name, Object.class), key + '.',
+						(ManagedType<?>) attribute.getType(), depth, asc, desc
+				);
+
+				case MANY_TO_ONE, ONE_TO_ONE -> {
+					if (depth < MAX_TO_ONE_DEPTH) {
+						collect(
+								parent.get(name, Object.class), key + '.',
+								(ManagedType<?>) attribute.getType(), depth + 1, asc, desc
+						);
+					}
+				}
+
+				default -> {
+					// not orderable as a single column
+				}
+			}
+		}
+	}
+
+	private static boolean isOrderable(Class<?> type) {
+		return type != null
+				&& (type.isPrimitive() || type.isEnum() || Comparable.class.isAssignableFrom(type));
+	}
+
+	@Override
+	public String toString() {
+		return "SortKeyRegistry[" + entityName + ", keys=" + ascending.size() + "]";
+	}
+}
@@ -0,0 +1,75 @@
+package com.tamantaw.projectx.persistence.view;
+
+import com.tamantaw.projectx.persistence.entity.Action;
+import jakarta.persistence.*;
+import lombok.Getter;
+import lombok.ToString;
+import org.hibernate.annotations.Immutable;
+import org.hibernate.annotations.Subselect;
+import org.hibernate.annotations.Synchronize;
+
+import java.io.Serial;
+import java.io.Serializable;
+
+/**
+ * One row of {@code mjr_effective_permission_mv} (V1_7): an (admin, role, action) grant.
+ *
+ * <p>
+ * Read-only. Mapped through {@link Subselect} so {@code ddl-auto: validate} does not
+ * look for a base table. Outer-join rows leave the missing side {@code null}:
+ * </p>
+ * <ul>
+ *   <li>action granted to no role: {@code roleId}, {@code adminId} are null</li>
+ *   <li>role granted to no administrator: {@code adminId} is null</li>
+ *   <li>role granting no action: action columns are null</li>
+ * </ul>
+ */
+@Entity
+@Immutable
+@Subselect("select * from mjr_effective_permission_mv")
+@Synchronize("mjr_effective_permission_mv")
+@Getter
+@ToString
+public class EffectivePermission implements Serializable {
+
+	@Serial
+	private static final long serialVersionUID = 4718520917388406551L;
+
+	@Id
+	@Column(name = "perm_key")
+	private String permKey;
+
+	@Column(name = "admin_id")
+	private Long adminId;
+
+	@Column(name = "role_id")
+	private Long roleId;
+
+	@Column(name = "role_name")
+	private String roleName;
+
+	@Column(name = "role_app_name")
+	private String roleAppName;
+
+	@Column(name = "action_id")
+	private Long actionId;
+
+	@Column(name = "app_name")
+	private String appName;
+
+	@Column(name = "page")
+	private String page;
+
+	@Column(name = "action_name")
+	private String actionName;
+
+	@Column(name = "display_name")
+	private String displayName;
+
+	@Enumerated(EnumType.STRING)
+	@Column(name = "action_type")
+	private Action.ActionType actionType;
+
+	@Column(name = "url")
+	private String url;
+}
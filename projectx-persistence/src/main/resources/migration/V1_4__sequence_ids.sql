@@ -0,0 +1,19 @@
+-- =========================================================
+-- SEQUENCE-BASED IDS (POOLED-LO, ALLOCATION SIZE 50)
+-- AbstractEntity ids are generated from <table>_id_seq.
+-- Hibernate reserves 50 ids per nextval → JDBC insert batching stays enabled.
+-- INCREMENT BY must match AbstractEntity.ID_ALLOCATION_SIZE.
+-- =========================================================
+
+ALTER SEQUENCE mjr_action_id_seq        INCREMENT BY 50;
+ALTER SEQUENCE mjr_role_id_seq          INCREMENT BY 50;
+ALTER SEQUENCE mjr_role_x_action_id_seq INCREMENT BY 50;
+ALTER SEQUENCE mjr_admin_id_seq         INCREMENT BY 50;
+ALTER SEQUENCE mjr_admin_x_role_id_seq  INCREMENT BY 50;
+
+-- =========================================================
+-- LOGIN HISTORY: identity must accept application-assigned ids
+-- =========================================================
+ALTER TABLE mjr_admin_login_history
+    ALTER COLUMN id SET GENERATED BY DEFAULT,
+    ALTER COLUMN id SET INCREMENT BY 50;
@@ -0,0 +1,46 @@
+-- =========================================================
+-- KEYWORD SEARCH (pg_trgm)
+-- Criteria "keyword" filters match a generated, lower-cased search_text column:
+--     search_text LIKE '%<keyword>%'
+-- The trigram GIN index serves infix LIKE (no sequential scan for keywords >= 3 chars)
+-- and similarity() ranking (sort key "relevance").
+-- Columns are joined with a newline: a search-box keyword never spans two columns.
+-- =========================================================
+
+CREATE EXTENSION IF NOT EXISTS pg_trgm;
+
+-- =========================================================
+-- ADMINS: name, login_id
+-- =========================================================
+ALTER TABLE mjr_admin
+    ADD COLUMN search_text TEXT GENERATED ALWAYS AS (
+        lower(name || E'\n' || login_id)
+    ) STORED;
+
+CREATE INDEX idx_mjr_admin_search_trgm
+    ON mjr_admin USING gin (search_text gin_trgm_ops);
+
+-- =========================================================
+-- ROLES: app_name, name, description
+-- =========================================================
+ALTER TABLE mjr_role
+    ADD COLUMN search_text TEXT GENERATED ALWAYS AS (
+        lower(app_name || E'\n' || name || E'\n' || coalesce(description, ''))
+    ) STORED;
+
+CREATE INDEX idx_mjr_role_search_trgm
+    ON mjr_role USING gin (search_text gin_trgm_ops);
+
+-- =========================================================
+-- ACTIONS: app_name, page, action_name, display_name, url, description
+-- =========================================================
+ALTER TABLE mjr_action
+    ADD COLUMN search_text TEXT GENERATED ALWAYS AS (
+        lower(
+            app_name || E'\n' || page || E'\n' || action_name || E'\n' ||
+            display_name || E'\n' || url || E'\n' || description
+        )
+    ) STORED;
+
+CREATE INDEX idx_mjr_action_search_trgm
+    ON mjr_action USING gin (search_text gin_trgm_ops);
@@ -0,0 +1,53 @@
+-- =========================================================
+-- ADMIN ROLE MEMBERSHIP (DENORMALIZED)
+-- mjr_admin.role_ids mirrors mjr_admin_x_role (sorted role ids) so role-by-id
+-- filters are a GIN-indexed overlap instead of a correlated EXISTS:
+--     role_ids && ?::bigint[]
+-- Maintained by a row trigger on mjr_admin_x_role, so every write path is covered:
+-- JPA, bulk DML, native SQL and ON DELETE CASCADE from mjr_role / mjr_admin.
+-- =========================================================
+
+ALTER TABLE mjr_admin
+    ADD COLUMN role_ids BIGINT[] NOT NULL DEFAULT '{}';
+
+UPDATE mjr_admin a
+SET role_ids = coalesce(
+    (SELECT array_agg(ar.role_id ORDER BY ar.role_id)
+     FROM mjr_admin_x_role ar
+     WHERE ar.admin_id = a.id),
+    '{}'
+);
+
+CREATE INDEX idx_mjr_admin_role_ids ON mjr_admin USING gin (role_ids);
+
+-- =========================================================
+-- SYNC TRIGGER
+-- =========================================================
+CREATE FUNCTION mjr_admin_sync_role_ids() RETURNS trigger AS $$
+DECLARE
+    admin_ids BIGINT[];
+BEGIN
+    IF TG_OP = 'INSERT' THEN
+        admin_ids := ARRAY[NEW.admin_id];
+    ELSIF TG_OP = 'UPDATE' THEN
+        admin_ids := ARRAY[NEW.admin_id, OLD.admin_id];
+    ELSE
+        admin_ids := ARRAY[OLD.admin_id];
+    END IF;
+
+    UPDATE mjr_admin a
+    SET role_ids = coalesce(
+        (SELECT array_agg(ar.role_id ORDER BY ar.role_id)
+         FROM mjr_admin_x_role ar
+         WHERE ar.admin_id = a.id),
+        '{}'
+    )
+    WHERE a.id = ANY (admin_ids);
+
+    RETURN NULL;
+END;
+$$ LANGUAGE plpgsql;
+
+CREATE TRIGGER trg_mjr_admin_x_role_sync_role_ids
+    AFTER INSERT OR UPDATE OF admin_id, role_id OR DELETE ON mjr_admin_x_role
+    FOR EACH ROW EXECUTE FUNCTION mjr_admin_sync_role_ids();
@@ -0,0 +1,60 @@
+-- =========================================================
+-- EFFECTIVE PERMISSIONS (MATERIALIZED VIEW)
+-- Flat (admin, role, action) rows for the action registry and login:
+--     registry : WHERE app_name = ?                       (action → role names)
+--     login    : WHERE admin_id = ? AND role_app_name = ? (admin → role names)
+-- Outer joins keep actions granted to no role and roles granting no action,
+-- so the view answers both questions without falling back to the base tables.
+-- perm_key (role:action:admin, '-' for none) is the unique key required by
+--     REFRESH MATERIALIZED VIEW CONCURRENTLY mjr_effective_permission_mv
+-- Refreshed by EffectivePermissionRepository before commit of any RBAC write.
+-- =========================================================
+
+CREATE MATERIALIZED VIEW mjr_effective_permission_mv AS
+SELECT
+    coalesce(r.id::text, '-') || ':' || a.id || ':' || coalesce(ar.admin_id::text, '-') AS perm_key,
+    ar.admin_id,
+    r.id            AS role_id,
+    r.name          AS role_name,
+    r.app_name      AS role_app_name,
+    a.id            AS action_id,
+    a.app_name,
+    a.page,
+    a.action_name,
+    a.display_name,
+    a.action_type,
+    a.url
+FROM mjr_action a
+LEFT JOIN mjr_role_x_action ra ON ra.action_id = a.id
+LEFT JOIN mjr_role r           ON r.id = ra.role_id
+LEFT JOIN mjr_admin_x_role ar  ON ar.role_id = r.id
+
+UNION ALL
+
+SELECT
+    r.id || ':-:' || ar.admin_id AS perm_key,
+    ar.admin_id,
+    r.id,
+    r.name,
+    r.app_name,
+    NULL::bigint,
+    NULL::varchar,
+    NULL::varchar,
+    NULL::varchar,
+    NULL::varchar,
+    NULL::varchar,
+    NULL::varchar
+FROM mjr_admin_x_role ar
+JOIN mjr_role r ON r.id = ar.role_id
+WHERE NOT EXISTS (
+    SELECT 1 FROM mjr_role_x_action ra WHERE ra.role_id = r.id
+);
+
+CREATE UNIQUE INDEX uq_mjr_effective_permission_mv_key
+    ON mjr_effective_permission_mv (perm_key);
+
+CREATE INDEX idx_mjr_effective_permission_mv_admin
+    ON mjr_effective_permission_mv (admin_id, role_app_name);
+
+CREATE INDEX idx_mjr_effective_permission_mv_app
+    ON mjr_effective_permission_mv (app_name, action_id);
@@ -9,10 +9,12 @@ import com.tamantaw.projectx.persistence.entity.QAction;
 import com.tamantaw.projectx.persistence.exception.ConsistencyViolationException;
 import com.tamantaw.projectx.persistence.exception.PersistenceException;
 import com.tamantaw.projectx.persistence.repository.base.UpdateSpec;
+import com.tamantaw.projectx.persistence.repository.base.UpsertSpec;
 import com.tamantaw.projectx.persistence.service.ActionService;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.testng.annotations.Test;
 
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
 
@@ -81,6 +83,123 @@ public class ActionServiceIT extends CommonTestBase {
 		assertEquals(saved.getUpdatedBy(), TEST_CREATE_USER_ID);
 	}
 
+	@Test
+	public void upsertAll_insertsNewAndUpdatesExisting() throws Exception {
+		ActionDTO existing = actionService.findById(10011L).orElseThrow();
+		existing.setId(null);
+		existing.setDisplayName("Dashboard (synced)");
+
+		ActionDTO fresh = new ActionDTO();
+		fresh.setAppName("projectx");
+		fresh.setPage("Reports");
+		fresh.setActionName("reportsExport");
+		fresh.setDisplayName("Reports export");
+		fresh.setActionType(Action.ActionType.SUB);
+		fresh.setUrl("/web/sec/report/export");
+		fresh.setDescription("Upsert integration test action");
+
+		long affected = actionService.upsertAll(
+				List.of(existing, fresh),
+				UpsertSpec.onConstraint("uq_mjr_action_app_url").update("displayName", "description"),
+				TEST_UPDATE_USER_ID
+		);
+
+		assertEquals(affected, 2L);
+
+		ActionDTO updated = actionService.findById(10011L).orElseThrow();
+		assertEquals(updated.getDisplayName(), "Dashboard (synced)");
+		assertEquals(updated.getUpdatedBy(), TEST_UPDATE_USER_ID);
+
+		ActionCriteria criteria = new ActionCriteria();
+		criteria.setUrl("/web/sec/report/export");
+		assertTrue(actionService.findOne(criteria).isPresent());
+	}
+
+	@Test
+	public void upsertAll_duplicateConflictKeyInBatch_lastRowWins() throws Exception {
+		ActionDTO first = actionService.findById(10011L).orElseThrow();
+		first.setId(null);
+		first.setDisplayName("Dashboard (first)");
+
+		ActionDTO second = actionService.findById(10011L).orElseThrow();
+		second.setId(null);
+		second.setDisplayName("Dashboard (second)");
+
+		// same (app_name, url) twice in one statement: merged instead of failing
+		// with "ON CONFLICT DO UPDATE command cannot affect row a second time"
+		long affected = actionService.upsertAll(
+				List.of(first, second),
+				UpsertSpec.onConstraint("uq_mjr_action_app_url").update("displayName"),
+				TEST_UPDATE_USER_ID
+		);
+
+		assertEquals(affected, 1L);
+		assertEquals(actionService.findById(10011L).orElseThrow().getDisplayName(), "Dashboard (second)");
+	}
+
+	/**
+	 * Set-based UPDATE / DELETE ... WHERE id IN (subquery): affected counts, and reads later in
+	 * the same transaction must not be served from the (cleared) persistence context.
+	 */
+	@Test
+	public void updateAndDelete_byCriteria_setBased_laterReadsSeeNewState() throws Exception {
+		List<Long> ids = new ArrayList<>();
+		for (int i = 1; i <= 3; i++) {
+			ids.add(createAction("BulkPage", "bulkAction" + i, "/web/sec/bulk/" + i).getId());
+		}
+		Long outsider = createAction("OtherBulkPage", "bulkOutsider", "/web/sec/bulk/outsider").getId();
+
+		// Managed before the bulk statements
+		Action managed = entityManager.find(Action.class, ids.getFirst());
+		assertEquals(managed.getDisplayName(), "bulkAction1");
+
+		ActionCriteria criteria = new ActionCriteria();
+		criteria.setPage("BulkPage");
+
+		// ------------------------------------------------------------
+		// Bulk UPDATE
+		// ------------------------------------------------------------
+		UpdateSpec<Action> spec = (update, root) ->
+				update.set(QAction.action.displayName, "Bulk updated");
+
+		assertEquals(actionService.update(spec, criteria, TEST_UPDATE_USER_ID), 3L);
+
+		assertFalse(entityManager.contains(managed), "persistence context must be cleared");
+		assertEquals(entityManager.find(Action.class, ids.getFirst()).getDisplayName(), "Bulk updated");
+
+		List<ActionDTO> updated = actionService.findAll(criteria);
+		assertEquals(updated.size(), 3);
+		for (ActionDTO action : updated) {
+			assertEquals(action.getDisplayName(), "Bulk updated");
+			assertEquals(action.getUpdatedBy(), TEST_UPDATE_USER_ID);
+		}
+		assertEquals(actionService.findById(outsider).orElseThrow().getDisplayName(), "bulkOutsider");
+
+		// ------------------------------------------------------------
+		// Bulk DELETE
+		// ------------------------------------------------------------
+		assertEquals(actionService.delete(criteria), 3L);
+
+		assertEquals(actionService.count(criteria), 0L);
+		assertTrue(actionService.findAll(criteria).isEmpty());
+		for (Long id : ids) {
+			assertNull(entityManager.find(Action.class, id));
+		}
+		assertTrue(actionService.findById(outsider).isPresent());
+	}
+
+	private ActionDTO createAction(String page, String actionName, String url) throws Exception {
+		ActionDTO dto = new ActionDTO();
+		dto.setAppName("projectx");
+		dto.setPage(page);
+		dto.setActionName(actionName);
+		dto.setDisplayName(actionName);
+		dto.setActionType(Action.ActionType.SUB);
+		dto.setUrl(url);
+
+		return actionService.create(dto, TEST_CREATE_USER_ID);
+	}
+
 	@Test
 	public void update_updatesDisplayName() throws Exception {
 		ActionDTO dto = new ActionDTO();
@@ -213,6 +213,32 @@ public class AdministratorLoginHistoryServiceIT extends CommonTestBase {
 		);
 	}
 
+	@Test
+	public void copyAll_insertsLoginHistories() throws Exception {
+		List<AdministratorLoginHistoryDTO> dtos = List.of(
+				buildDto(1L, "10.20.30.1", "Linux", "curl \"quoted\", agent"),
+				buildDto(1L, "10.20.30.2", null, "")
+		);
+
+		long inserted = loginHistoryService.copyAll(dtos, TEST_CREATE_USER_ID);
+
+		assertEquals(inserted, 2L);
+
+		AdministratorLoginHistoryCriteria criteria = new AdministratorLoginHistoryCriteria();
+		criteria.setAdministratorId(1L);
+		criteria.setIpAddress("10.20.30.1");
+
+		AdministratorLoginHistoryDTO first = loginHistoryService.findOne(criteria).orElseThrow();
+		assertEquals(first.getClientAgent(), "curl \"quoted\", agent");
+		assertEquals(first.getCreatedBy(), TEST_CREATE_USER_ID);
+		assertNotNull(first.getCreatedDate());
+
+		criteria.setIpAddress("10.20.30.2");
+		AdministratorLoginHistoryDTO second = loginHistoryService.findOne(criteria).orElseThrow();
+		assertNull(second.getOs());
+		assertEquals(second.getClientAgent(), "");
+	}
+
 	private AdministratorLoginHistoryDTO buildDto(Long adminId, String ip, String os, String agent) {
 		AdministratorLoginHistoryDTO dto = new AdministratorLoginHistoryDTO();
 		dto.setAdministratorId(adminId);
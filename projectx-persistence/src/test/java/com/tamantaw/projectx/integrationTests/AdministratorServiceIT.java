@@ -6,10 +6,18 @@ import com.tamantaw.projectx.persistence.criteria.AdministratorRoleCriteria;
 import com.tamantaw.projectx.persistence.criteria.RoleCriteria;
 import com.tamantaw.projectx.persistence.dto.AdministratorDTO;
 import com.tamantaw.projectx.persistence.dto.AdministratorRoleDTO;
+import com.tamantaw.projectx.persistence.dto.RoleDTO;
+import com.tamantaw.projectx.persistence.dto.base.PaginatedResult;
 import com.tamantaw.projectx.persistence.entity.Administrator;
+import com.tamantaw.projectx.persistence.entity.Role;
+import com.tamantaw.projectx.persistence.repository.EffectivePermissionRepository;
 import com.tamantaw.projectx.persistence.service.AdministratorRoleService;
 import com.tamantaw.projectx.persistence.service.AdministratorService;
+import com.tamantaw.projectx.persistence.service.EffectivePermissionService;
+import com.tamantaw.projectx.persistence.service.RoleService;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
 import org.testng.annotations.Test;
 
 import java.util.List;
@@ -27,6 +35,15 @@ public class AdministratorServiceIT extends CommonTestBase {
 	@Autowired
 	private AdministratorRoleService administratorRoleService;
 
+	@Autowired
+	private RoleService roleService;
+
+	@Autowired
+	private EffectivePermissionService effectivePermissionService;
+
+	@Autowired
+	private EffectivePermissionRepository effectivePermissionRepository;
+
 	@Test
 	public void create_withRoles_persistsAdministratorAndRoles() throws Exception {
 		AdministratorDTO dto = new AdministratorDTO();
@@ -108,6 +125,195 @@ public class AdministratorServiceIT extends CommonTestBase {
 		);
 	}
 
+	@Test
+	public void findDataTablePage_aggregatesRoleNamesPerAdministrator() throws Exception {
+		AdministratorDTO dto = new AdministratorDTO();
+		dto.setName("Admin With Role Names");
+		dto.setLoginId("role-names-admin@example.com");
+		dto.setPassword("secret");
+		dto.setStatus(Administrator.Status.ACTIVE);
+
+		Administrator saved =
+				administratorService.create(dto, Set.of(1L, 2L), TEST_CREATE_USER_ID);
+
+		AdministratorCriteria criteria = new AdministratorCriteria();
+		criteria.setLoginId("role-names-admin@example.com");
+		criteria.setLimit(10);
+		criteria.setOffset(0);
+
+		PaginatedResult<AdministratorDTO> page = administratorService.findDataTablePage(criteria);
+
+		assertEquals(page.getData().size(), 1);
+		AdministratorDTO row = page.getData().getFirst();
+		assertEquals(row.getId(), saved.getId());
+		assertNull(row.getPassword());
+
+		RoleCriteria roleCriteria = new RoleCriteria();
+		roleCriteria.setIncludeIds(Set.of(1L, 2L));
+		List<String> expected = roleService.findAll(roleCriteria).stream()
+				.map(RoleDTO::getName)
+				.sorted()
+				.toList();
+
+		assertEquals(row.getRoleNames().stream().sorted().toList(), expected);
+	}
+
+	@Test
+	public void findAll_byRoleIds_usesDenormalizedRoleArray() throws Exception {
+		AdministratorDTO dto = new AdministratorDTO();
+		dto.setName("Admin With Role Ids");
+		dto.setLoginId("role-ids-admin@example.com");
+		dto.setPassword("secret");
+		dto.setStatus(Administrator.Status.ACTIVE);
+
+		Administrator saved =
+				administratorService.create(dto, Set.of(1L, 2L), TEST_CREATE_USER_ID);
+		entityManager.flush(); // role_ids trigger runs at flush
+
+		AdministratorCriteria criteria = new AdministratorCriteria();
+		criteria.setRoleIds(Set.of(2L));
+
+		List<Long> ids = administratorService.findAll(criteria).stream()
+				.map(AdministratorDTO::getId)
+				.toList();
+
+		assertTrue(ids.contains(saved.getId()));
+
+		criteria.setRoleIds(Set.of(Long.MAX_VALUE));
+		assertTrue(administratorService.findAll(criteria).isEmpty());
+	}
+
+	@Test
+	public void findAll_byRoleIds_followsRoleAndLinkDeletes() throws Exception {
+		AdministratorDTO dto = new AdministratorDTO();
+		dto.setName("Admin Losing Roles");
+		dto.setLoginId("losing-roles-admin@example.com");
+		dto.setPassword("secret");
+		dto.setStatus(Administrator.Status.ACTIVE);
+
+		Administrator saved =
+				administratorService.create(dto, Set.of(1L), TEST_CREATE_USER_ID);
+
+		RoleDTO roleDto = new RoleDTO();
+		roleDto.setAppName("projectx");
+		roleDto.setName("ROLE_TO_DELETE");
+		roleDto.setRoleType(Role.RoleType.CUSTOM);
+
+		RoleDTO role = roleService.create(roleDto, Set.of(), Set.of(saved.getId()), TEST_CREATE_USER_ID);
+		entityManager.flush();
+
+		assertTrue(findIdsByRoleIds(Set.of(role.getId())).contains(saved.getId()));
+
+		// ------------------------------------------------------------
+		// Role delete: ON DELETE CASCADE removes the link row
+		// ------------------------------------------------------------
+		roleService.deleteById(role.getId());
+		entityManager.flush();
+		entityManager.clear();
+
+		assertFalse(findIdsByRoleIds(Set.of(role.getId())).contains(saved.getId()));
+
+		// ------------------------------------------------------------
+		// Link row delete (bulk DML through the service)
+		// ------------------------------------------------------------
+		assertTrue(findIdsByRoleIds(Set.of(1L)).contains(saved.getId()));
+
+		AdministratorRoleCriteria linkCriteria = new AdministratorRoleCriteria();
+		linkCriteria.setAdministratorId(saved.getId());
+		linkCriteria.setRoleId(1L);
+
+		assertEquals(administratorRoleService.delete(linkCriteria), 1L);
+		entityManager.flush();
+		entityManager.clear();
+
+		assertFalse(findIdsByRoleIds(Set.of(1L)).contains(saved.getId()));
+	}
+
+	private List<Long> findIdsByRoleIds(Set<Long> roleIds) throws Exception {
+		AdministratorCriteria criteria = new AdministratorCriteria();
+		criteria.setRoleIds(roleIds);
+
+		return administratorService.findAll(criteria).stream()
+				.map(AdministratorDTO::getId)
+				.toList();
+	}
+
+	@Test
+	public void selectRoleNames_readsEffectivePermissionView() throws Exception {
+		AdministratorDTO dto = new AdministratorDTO();
+		dto.setName("Admin With Permissions");
+		dto.setLoginId("permissions-admin@example.com");
+		dto.setPassword("secret");
+		dto.setStatus(Administrator.Status.ACTIVE);
+
+		Administrator saved =
+				administratorService.create(dto, Set.of(2L), TEST_CREATE_USER_ID);
+
+		// Test transactions roll back: the before-commit refresh never runs, refresh explicitly
+		effectivePermissionRepository.refresh();
+
+		RoleDTO role = roleService.findById(2L).orElseThrow();
+
+		assertEquals(
+				effectivePermissionService.selectRoleNames(saved.getId(), role.getAppName()),
+				Set.of(role.getName())
+		);
+		assertTrue(effectivePermissionService.selectRoleNames(saved.getId(), "no-such-app").isEmpty());
+	}
+
+	/**
+	 * Runs outside the test transaction: the view is refreshed only right before a real
+	 * commit (no explicit refresh here). Everything written is deleted again at the end.
+	 */
+	@Test
+	@Transactional(propagation = Propagation.NOT_SUPPORTED)
+	public void effectivePermissionView_isRefreshedOnCommit() throws Exception {
+		AdministratorDTO dto = new AdministratorDTO();
+		dto.setName("Admin Committed Grants");
+		dto.setLoginId("committed-grants-admin@example.com");
+		dto.setPassword("secret");
+		dto.setStatus(Administrator.Status.ACTIVE);
+
+		Administrator admin = administratorService.create(dto, Set.of(), TEST_CREATE_USER_ID);
+		RoleDTO role = null;
+
+		try {
+			assertTrue(effectivePermissionService.selectRoleNames(admin.getId(), "projectx").isEmpty());
+
+			RoleDTO roleDto = new RoleDTO();
+			roleDto.setAppName("projectx");
+			roleDto.setName("ROLE_MV_COMMIT");
+			roleDto.setRoleType(Role.RoleType.CUSTOM);
+
+			role = roleService.create(roleDto, Set.of(10021L), Set.of(admin.getId()), TEST_CREATE_USER_ID);
+
+			// Login path
+			assertEquals(
+					effectivePermissionService.selectRoleNames(admin.getId(), "projectx"),
+					Set.of("ROLE_MV_COMMIT")
+			);
+
+			// Registry path
+			assertTrue(
+					effectivePermissionService.selectActionGrants("projectx").stream()
+							.filter(a -> a.getId().equals(10021L))
+							.flatMap(a -> a.getRoles().stream())
+							.anyMatch(r -> r.getName().equals("ROLE_MV_COMMIT"))
+			);
+
+			roleService.deleteById(role.getId());
+			role = null;
+
+			assertTrue(effectivePermissionService.selectRoleNames(admin.getId(), "projectx").isEmpty());
+		}
+		finally {
+			if (role != null) {
+				roleService.deleteById(role.getId());
+			}
+			administratorService.deleteById(admin.getId());
+		}
+	}
+
 	@Test
 	public void findById_existingAdministrator() throws Exception {
 		Optional<AdministratorDTO> result =
@@ -2,27 +2,39 @@ package com.tamantaw.projectx.integrationTests;
 
 import com.tamantaw.projectx.CommonTestBase;
 import com.tamantaw.projectx.persistence.criteria.ActionCriteria;
+import com.tamantaw.projectx.persistence.criteria.AdministratorCriteria;
 import com.tamantaw.projectx.persistence.criteria.AdministratorRoleCriteria;
 import com.tamantaw.projectx.persistence.criteria.RoleActionCriteria;
 import com.tamantaw.projectx.persistence.criteria.RoleCriteria;
+import com.tamantaw.projectx.persistence.criteria.base.AbstractCriteria;
 import com.tamantaw.projectx.persistence.dto.ActionDTO;
 import com.tamantaw.projectx.persistence.dto.AdministratorRoleDTO;
 import com.tamantaw.projectx.persistence.dto.RoleActionDTO;
 import com.tamantaw.projectx.persistence.dto.RoleDTO;
 import com.tamantaw.projectx.persistence.dto.base.PaginatedResult;
+import com.tamantaw.projectx.persistence.dto.base.SliceResult;
 import com.tamantaw.projectx.persistence.entity.QRole;
 import com.tamantaw.projectx.persistence.entity.Role;
 import com.tamantaw.projectx.persistence.exception.ConsistencyViolationException;
 import com.tamantaw.projectx.persistence.exception.PersistenceException;
+import com.tamantaw.projectx.persistence.repository.RoleRepository;
 import com.tamantaw.projectx.persistence.repository.base.UpdateSpec;
 import com.tamantaw.projectx.persistence.service.AdministratorRoleService;
+import com.tamantaw.projectx.persistence.service.AdministratorService;
 import com.tamantaw.projectx.persistence.service.RoleActionService;
 import com.tamantaw.projectx.persistence.service.RoleService;
+import org.hibernate.Hibernate;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.data.domain.Sort;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
 import org.testng.annotations.Test;
 
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
 import java.util.stream.Collectors;
@@ -42,6 +54,12 @@ public class RoleServiceIT extends CommonTestBase {
 	@Autowired
 	private AdministratorRoleService administratorRoleService;
 
+	@Autowired
+	private AdministratorService administratorService;
+
+	@Autowired
+	private RoleRepository roleRepository;
+
 	@Test
 	public void updateRoleAndRelations() throws Exception {
 		// ------------------------------------------------------------
@@ -156,6 +174,45 @@ public class RoleServiceIT extends CommonTestBase {
 		);
 	}
 
+	@Test
+	public void forEachChunk_matchesFindAllOrder() throws Exception {
+		RoleCriteria criteria = new RoleCriteria();
+		criteria.setAppName("projectx");
+
+		List<Long> expected = roleService.findAll(criteria, "Role(roleActions)").stream()
+				.map(RoleDTO::getId)
+				.toList();
+
+		List<Long> streamed = new ArrayList<>();
+		long processed = roleService.forEachChunk(criteria, 1, chunk -> {
+			assertTrue(chunk.size() <= 1);
+			chunk.forEach(r -> streamed.add(r.getId()));
+		}, "Role(roleActions)");
+
+		assertEquals(processed, expected.size());
+		assertEquals(streamed, expected);
+	}
+
+	@Test
+	public void findAll_includeAndExcludeIds() throws Exception {
+		RoleCriteria all = new RoleCriteria();
+		all.setAppName("projectx");
+
+		List<Long> ids = roleService.findAll(all).stream()
+				.map(RoleDTO::getId)
+				.toList();
+		assertTrue(ids.size() >= 2);
+
+		RoleCriteria include = new RoleCriteria();
+		include.setIncludeIds(Set.of(ids.get(0), ids.get(1)));
+		include.setExcludeIds(Set.of(ids.get(1)));
+
+		List<RoleDTO> roles = roleService.findAll(include, "Role(roleActions)");
+
+		assertEquals(roles.size(), 1);
+		assertEquals(roles.getFirst().getId(), ids.get(0));
+	}
+
 	// ----------------------------------------------------------------------
 	// FIND ROLE WITH ACTION FILTER (JOIN TEST)
 	// ----------------------------------------------------------------------
@@ -197,6 +254,32 @@ public class RoleServiceIT extends CommonTestBase {
 		assertEquals(saved.getUpdatedBy(), 100L);
 	}
 
+	@Test
+	public void selectRoleNamesByActionIds_groupsRoleNamesPerAction() throws Exception {
+		RoleDTO dto = new RoleDTO();
+		dto.setAppName("projectx");
+		dto.setName("ROLE_FOR_GRANTS");
+		dto.setRoleType(Role.RoleType.CUSTOM);
+
+		roleService.create(dto, Set.of(10021L, 10022L), Set.of(), 123L);
+
+		Map<Long, Set<String>> roleNamesByActionId =
+				roleService.selectRoleNamesByActionIds(Set.of(10021L, 10022L, Long.MAX_VALUE), "projectx");
+
+		// Same answer as the entity path
+		RoleActionCriteria criteria = new RoleActionCriteria();
+		criteria.setActionId(10021L);
+		Set<String> expected = roleActionService.findAll(criteria, "RoleAction(role)").stream()
+				.map(RoleActionDTO::getRole)
+				.filter(r -> "projectx".equals(r.getAppName()))
+				.map(RoleDTO::getName)
+				.collect(Collectors.toSet());
+
+		assertEquals(roleNamesByActionId.get(10021L), expected);
+		assertTrue(roleNamesByActionId.get(10022L).contains("ROLE_FOR_GRANTS"));
+		assertNull(roleNamesByActionId.get(Long.MAX_VALUE));
+	}
+
 	@Test
 	public void create_withRelations() throws Exception {
 		RoleDTO dto = new RoleDTO();
@@ -387,6 +470,68 @@ public class RoleServiceIT extends CommonTestBase {
 		showEntriesOfCollection(roles);
 	}
 
+	@Test
+	public void findAll_twoCollections_areLoadedBySeparateBranchQueries() throws PersistenceException {
+		RoleCriteria roleCriteria = new RoleCriteria();
+		roleCriteria.setAppName("projectx");
+
+		List<RoleDTO> joined = roleService.findAll(roleCriteria, "Role(roleActions(action))");
+		List<RoleDTO> split = roleService.findAll(
+				roleCriteria,
+				"Role(roleActions(action),administratorRoles(administrator))"
+		);
+
+		assertEquals(
+				split.stream().map(RoleDTO::getId).toList(),
+				joined.stream().map(RoleDTO::getId).toList()
+		);
+
+		for (RoleDTO role : split) {
+			assertNotNull(role.getActions());
+			assertNotNull(role.getAdministrators()); // second branch stitched into the same roots
+		}
+
+		RoleDTO superUser = split.stream()
+				.filter(r -> "SUPER-USER".equals(r.getName()))
+				.findFirst()
+				.orElseThrow();
+
+		assertFalse(superUser.getActions().isEmpty());
+
+		// Entity level: both collections must come from the branch queries, not from lazy loads
+		entityManager.flush();
+		entityManager.clear();
+
+		Statistics statistics =
+				entityManager.getEntityManagerFactory().unwrap(SessionFactory.class).getStatistics();
+		boolean statisticsEnabled = statistics.isStatisticsEnabled();
+		statistics.setStatisticsEnabled(true);
+
+		List<Role> roles;
+		long statements;
+		try {
+			long before = statistics.getPrepareStatementCount();
+			roles = roleRepository.findAll(roleCriteria, "Role(roleActions(action),administratorRoles(administrator))");
+			statements = statistics.getPrepareStatementCount() - before;
+		}
+		finally {
+			statistics.setStatisticsEnabled(statisticsEnabled);
+		}
+
+		// ID query + one query per collection branch (JOINED would be 2)
+		assertEquals(statements, 3L);
+
+		entityManager.clear();
+
+		assertFalse(roles.isEmpty());
+		for (Role role : roles) {
+			assertTrue(Hibernate.isInitialized(role.getRoleActions()));
+			assertTrue(Hibernate.isInitialized(role.getAdministratorRoles()));
+			role.getRoleActions().forEach(ra -> assertTrue(Hibernate.isInitialized(ra.getAction())));
+			role.getAdministratorRoles().forEach(ar -> assertTrue(Hibernate.isInitialized(ar.getAdministrator())));
+		}
+	}
+
 	@Test
 	public void findByPaging_basicPagination() throws Exception {
 		RoleCriteria criteria = new RoleCriteria();
@@ -417,6 +562,241 @@ public class RoleServiceIT extends CommonTestBase {
 		assertTrue(page.getData().isEmpty());
 	}
 
+	@Test
+	public void findByPaging_emptyPage_keepsTotal() throws Exception {
+		RoleCriteria criteria = new RoleCriteria();
+		criteria.setAppName("projectx");
+		criteria.setLimit(10);
+		criteria.setOffset(1000);
+
+		PaginatedResult<RoleDTO> fastPath = roleService.findByPaging(criteria);
+		PaginatedResult<RoleDTO> idFirstPath = roleService.findByPaging(criteria, "Role(roleActions)");
+
+		assertTrue(fastPath.getData().isEmpty());
+		assertTrue(idFirstPath.getData().isEmpty());
+		assertTrue(fastPath.getRecordsTotal() >= 2);
+		assertEquals(idFirstPath.getRecordsTotal(), fastPath.getRecordsTotal());
+	}
+
+	@Test
+	public void findByPaging_cappedCount_reportsLowerBound() throws Exception {
+		RoleCriteria criteria = new RoleCriteria();
+		criteria.setAppName("projectx");
+		criteria.setLimit(1);
+		criteria.setOffset(0);
+		criteria.setCountMode(AbstractCriteria.CountMode.CAPPED);
+		criteria.setCountCap(1L);
+
+		PaginatedResult<RoleDTO> page = roleService.findByPaging(criteria, "Role(roleActions)");
+
+		assertEquals(page.getData().size(), 1);
+		assertFalse(page.isTotalExact());
+		assertEquals(page.getRecordsTotal(), 2L); // cap + 1 → "more than 1"
+
+		// Deep page: the cap is not raised to offset + size, the total is only a lower bound
+		criteria.setOffset(1);
+		PaginatedResult<RoleDTO> deep = roleService.findByPaging(criteria, "Role(roleActions)");
+
+		assertEquals(deep.getData().size(), 1);
+		assertFalse(deep.isTotalExact());
+		assertEquals(deep.getRecordsTotal(), 2L); // max(seen = 2, cap + 1 = 2)
+
+		criteria.setCountCap(1_000L);
+		PaginatedResult<RoleDTO> withinCap = roleService.findByPaging(criteria, "Role(roleActions)");
+
+		assertTrue(withinCap.isTotalExact()); // fewer rows than the cap → exact
+
+		criteria.setOffset(0);
+		criteria.setCountMode(AbstractCriteria.CountMode.EXACT);
+		PaginatedResult<RoleDTO> exact = roleService.findByPaging(criteria, "Role(roleActions)");
+
+		assertTrue(exact.isTotalExact());
+		assertTrue(exact.getRecordsTotal() >= 2);
+	}
+
+	/**
+	 * Runs outside the test transaction: the parallel count only starts from a
+	 * read-only context (a read-write transaction always counts serially).
+	 */
+	@Test
+	@Transactional(propagation = Propagation.NOT_SUPPORTED)
+	public void findByPaging_parallelCount_matchesSerialTotal() throws Exception {
+		RoleCriteria criteria = new RoleCriteria();
+		criteria.setAppName("projectx");
+		// filter used by no other test: the count cache must not answer it
+		criteria.setIncludeIds(Set.of(1L, 2L, 3L, 4L, 5L));
+		criteria.setLimit(1);
+		criteria.setOffset(0);
+		criteria.setParallelCount(true);
+
+		Statistics statistics =
+				entityManager.getEntityManagerFactory().unwrap(SessionFactory.class).getStatistics();
+		boolean statisticsEnabled = statistics.isStatisticsEnabled();
+		statistics.setStatisticsEnabled(true);
+
+		PaginatedResult<RoleDTO> parallel;
+		long sessionsOpened;
+		try {
+			long before = statistics.getSessionOpenCount();
+			parallel = roleService.findByPaging(criteria, "Role(roleActions)");
+			sessionsOpened = statistics.getSessionOpenCount() - before;
+		}
+		finally {
+			statistics.setStatisticsEnabled(statisticsEnabled);
+		}
+
+		// service transaction + the separate count EntityManager
+		assertTrue(sessionsOpened >= 2, "parallel count did not run, sessions opened=" + sessionsOpened);
+
+		long expected = entityManager
+				.createQuery(
+						"select count(r) from Role r where r.appName = 'projectx' and r.id in (1, 2, 3, 4, 5)",
+						Long.class)
+				.getSingleResult();
+
+		assertTrue(parallel.isTotalExact());
+		assertEquals(parallel.getRecordsTotal(), expected);
+	}
+
+	/**
+	 * Runs outside the test transaction (counts are memoized only from read-only contexts);
+	 * every write below commits and the rows are removed again at the end.
+	 */
+	@Test
+	@Transactional(propagation = Propagation.NOT_SUPPORTED)
+	public void count_cachedTotal_isInvalidatedByWrites() throws Exception {
+		String appName = "count-cache-it";
+
+		RoleCriteria criteria = new RoleCriteria();
+		criteria.setAppName(appName);
+
+		Statistics statistics =
+				entityManager.getEntityManagerFactory().unwrap(SessionFactory.class).getStatistics();
+		boolean statisticsEnabled = statistics.isStatisticsEnabled();
+		statistics.setStatisticsEnabled(true);
+
+		try {
+			assertEquals(roleService.count(criteria), 0L);
+
+			// ------------------------------------------------------------
+			// Second count: served from the cache, no query
+			// ------------------------------------------------------------
+			long queries = statistics.getQueryExecutionCount();
+			assertEquals(roleService.count(criteria), 0L);
+			assertEquals(statistics.getQueryExecutionCount(), queries);
+
+			// ------------------------------------------------------------
+			// Entity insert (Hibernate event) → epoch bump
+			// ------------------------------------------------------------
+			RoleDTO dto = new RoleDTO();
+			dto.setAppName(appName);
+			dto.setName("CC_ROLE_1");
+			dto.setRoleType(Role.RoleType.CUSTOM);
+
+			RoleDTO created = roleService.create(dto, Set.of(), Set.of(1L), TEST_CREATE_USER_ID);
+			assertEquals(roleService.count(criteria), 1L);
+
+			// ------------------------------------------------------------
+			// COPY (native, afterBulkDml) → epoch bump
+			// ------------------------------------------------------------
+			List<RoleDTO> copies = new ArrayList<>();
+			for (String name : List.of("CC_ROLE_2", "CC_ROLE_3")) {
+				RoleDTO copy = new RoleDTO();
+				copy.setAppName(appName);
+				copy.setName(name);
+				copy.setRoleType(Role.RoleType.CUSTOM);
+				copies.add(copy);
+			}
+
+			assertEquals(roleService.copyAll(copies, TEST_CREATE_USER_ID), 2L);
+			assertEquals(roleService.count(criteria), 3L);
+
+			// ------------------------------------------------------------
+			// Derived type: role delete cascades to mjr_admin_x_role, the trigger
+			// rewrites mjr_admin.role_ids → cached Administrator counts are dropped
+			// ------------------------------------------------------------
+			AdministratorCriteria adminCriteria = new AdministratorCriteria();
+			adminCriteria.setRoleIds(Set.of(created.getId()));
+
+			assertEquals(administratorService.count(adminCriteria), 1L);
+			assertEquals(administratorService.count(adminCriteria), 1L); // cached
+
+			roleService.deleteById(created.getId());
+
+			assertEquals(administratorService.count(adminCriteria), 0L);
+			assertEquals(roleService.count(criteria), 2L);
+		}
+		finally {
+			statistics.setStatisticsEnabled(statisticsEnabled);
+
+			// Bulk delete (afterBulkDml) doubles as cleanup
+			roleService.delete(criteria);
+		}
+
+		assertEquals(roleService.count(criteria), 0L);
+	}
+
+	@Test
+	public void findByPaging_snapshot_servesPagesFromSearchToken() throws Exception {
+		RoleCriteria criteria = new RoleCriteria();
+		criteria.setAppName("projectx");
+		criteria.setPagingMode(AbstractCriteria.PagingMode.SNAPSHOT);
+		criteria.setLimit(1);
+		criteria.setOffset(0);
+
+		PaginatedResult<RoleDTO> first = roleService.findByPaging(criteria, "Role(roleActions)");
+
+		assertNotNull(first.getSearchToken());
+		assertTrue(first.getRecordsTotal() >= 2);
+
+		criteria.setSearchToken(first.getSearchToken());
+		criteria.setOffset(1);
+		PaginatedResult<RoleDTO> second = roleService.findByPaging(criteria, "Role(roleActions)");
+
+		assertEquals(second.getSearchToken(), first.getSearchToken());
+		assertEquals(second.getRecordsTotal(), first.getRecordsTotal());
+		assertEquals(second.getData().size(), 1);
+		assertTrue(!second.getData().getFirst().getId().equals(first.getData().getFirst().getId()));
+	}
+
+	@Test
+	public void findSlice_reportsHasNextWithoutTotal() throws Exception {
+		RoleCriteria criteria = new RoleCriteria();
+		criteria.setAppName("projectx");
+		criteria.setLimit(1);
+		criteria.setOffset(0);
+
+		SliceResult<RoleDTO> first = roleService.findSlice(criteria, "Role(roleActions)");
+
+		assertEquals(first.getData().size(), 1);
+		assertTrue(first.isHasNext());
+
+		criteria.setLimit(1000);
+		SliceResult<RoleDTO> all = roleService.findSlice(criteria, "Role(roleActions)");
+
+		assertFalse(all.isHasNext());
+		assertEquals(all.getData().getFirst().getId(), first.getData().getFirst().getId());
+	}
+
+	@Test
+	public void findByPaging_projection_matchesEntityPage() throws Exception {
+		RoleCriteria criteria = new RoleCriteria();
+		criteria.setAppName("projectx");
+		criteria.setLimit(1000);
+		criteria.setOffset(0);
+
+		PaginatedResult<RoleDTO> mapped = roleService.findByPaging(criteria);
+		PaginatedResult<RoleDTO> projected = roleService.findByPaging(criteria, RoleService.DATA_TABLE_ROW);
+
+		assertEquals(projected.getRecordsTotal(), mapped.getRecordsTotal());
+		assertEquals(
+				projected.getData().stream().map(RoleDTO::getId).toList(),
+				mapped.getData().stream().map(RoleDTO::getId).toList()
+		);
+		assertEquals(projected.getData().getFirst().getName(), mapped.getData().getFirst().getName());
+		assertNull(projected.getData().getFirst().getActionIds());
+	}
+
 	@Test
 	public void findByPaging_withPageNumberOnly_usesDefaultLimit() throws Exception {
 		RoleCriteria criteria = new RoleCriteria();
@@ -446,6 +826,60 @@ public class RoleServiceIT extends CommonTestBase {
 		assertEquals(page.getData().size(), 1);
 	}
 
+	@Test
+	public void findByPaging_keyset_nextAndPrevious() throws Exception {
+		RoleCriteria criteria = new RoleCriteria();
+		criteria.setAppName("projectx");
+		criteria.setLimit(1);
+		criteria.setPagingMode(RoleCriteria.PagingMode.KEYSET);
+		criteria.addSortKey("name", Sort.Direction.ASC);
+
+		PaginatedResult<RoleDTO> first = roleService.findByPaging(criteria);
+
+		assertEquals(first.getData().size(), 1);
+		assertNotNull(first.getNextCursor());
+		assertNull(first.getPreviousCursor());
+
+		criteria.setCursor(first.getNextCursor());
+		PaginatedResult<RoleDTO> second = roleService.findByPaging(criteria);
+
+		assertEquals(second.getData().size(), 1);
+		assertNotNull(second.getPreviousCursor());
+		assertFalse(first.getData().getFirst().getId().equals(second.getData().getFirst().getId()));
+
+		criteria.setCursor(second.getPreviousCursor());
+		PaginatedResult<RoleDTO> back = roleService.findByPaging(criteria);
+
+		assertEquals(back.getData().getFirst().getId(), first.getData().getFirst().getId());
+		assertNull(back.getPreviousCursor());
+	}
+
+	@Test
+	public void findByPaging_keyset_rejectsNullableSortKey() {
+		RoleCriteria criteria = new RoleCriteria();
+		criteria.setAppName("projectx");
+		criteria.setLimit(1);
+		criteria.setPagingMode(RoleCriteria.PagingMode.KEYSET);
+
+		// mjr_role.description is nullable: a seek predicate would skip NULL rows
+		criteria.addSortKey("description", Sort.Direction.ASC);
+
+		try {
+			roleService.findByPaging(criteria);
+			fail("Expected PersistenceException due to nullable keyset sort key");
+		}
+		catch (PersistenceException e) {
+
+			Throwable root = e.getCause();
+			while (root != null && root.getCause() != null) {
+				root = root.getCause();
+			}
+
+			assertTrue(root instanceof IllegalArgumentException);
+			assertTrue(root.getMessage().contains("NOT NULL sort keys"));
+		}
+	}
+
 	@Test
 	public void findAll_sortedByIdDesc() throws Exception {
 		RoleCriteria criteria = new RoleCriteria();
@@ -541,6 +975,111 @@ public class RoleServiceIT extends CommonTestBase {
 		}
 	}
 
+	@Test
+	public void findByPaging_keyword_matchesCaseInsensitively_andRanksByRelevance() throws Exception {
+		RoleCriteria criteria = new RoleCriteria();
+		criteria.setAppName("projectx");
+		criteria.setKeyword("super-USER");
+		criteria.setLimit(10);
+		criteria.setOffset(0);
+		criteria.addSortKey("relevance", Sort.Direction.DESC);
+
+		PaginatedResult<RoleDTO> page = roleService.findByPaging(criteria);
+
+		assertFalse(page.getData().isEmpty());
+		assertEquals(page.getData().getFirst().getName(), "SUPER-USER");
+	}
+
+	@Test
+	public void findByPaging_keyword_matchesSeveralRows_rankedByRelevance() throws Exception {
+		String appName = "keyword-it";
+
+		for (String name : List.of("Report", "Report Viewer", "Quarterly Report Archive Editor", "Ledger")) {
+			RoleDTO dto = new RoleDTO();
+			dto.setAppName(appName);
+			dto.setName(name);
+			dto.setRoleType(Role.RoleType.CUSTOM);
+			roleService.create(dto, TEST_CREATE_USER_ID);
+		}
+
+		RoleCriteria criteria = new RoleCriteria();
+		criteria.setAppName(appName);
+		criteria.setKeyword("  rePORT ");
+		criteria.setLimit(10);
+		criteria.setOffset(0);
+		criteria.addSortKey("relevance", Sort.Direction.DESC);
+
+		PaginatedResult<RoleDTO> page = roleService.findByPaging(criteria);
+
+		// shortest match is the closest trigram match; "Ledger" does not match
+		assertEquals(
+				page.getData().stream().map(RoleDTO::getName).toList(),
+				List.of("Report", "Report Viewer", "Quarterly Report Archive Editor")
+		);
+		assertEquals(page.getRecordsTotal(), 3L);
+
+		// LIKE wildcards in the keyword are literals
+		criteria.setKeyword("rep%t");
+		assertTrue(roleService.findByPaging(criteria).getData().isEmpty());
+	}
+
+	@Test
+	public void findByPaging_keyword_nonAsciiRowMatchesItsOwnText() throws Exception {
+		String appName = "keyword-it";
+
+		RoleDTO dto = new RoleDTO();
+		dto.setAppName(appName);
+		dto.setName("ÄRZTE Übersicht");
+		dto.setRoleType(Role.RoleType.CUSTOM);
+		roleService.create(dto, TEST_CREATE_USER_ID);
+
+		// keyword and search_text are lower-cased by the same database lower()
+		RoleCriteria criteria = new RoleCriteria();
+		criteria.setAppName(appName);
+		criteria.setKeyword("ÄRZTE Übersicht");
+		criteria.setLimit(10);
+		criteria.setOffset(0);
+
+		PaginatedResult<RoleDTO> page = roleService.findByPaging(criteria);
+
+		assertEquals(page.getData().size(), 1);
+		assertEquals(page.getData().getFirst().getName(), "ÄRZTE Übersicht");
+	}
+
+	@Test
+	public void findByPaging_rejectsUnknownStringSortKey() {
+
+		RoleCriteria criteria = new RoleCriteria();
+		criteria.setAppName("projectx");
+		criteria.setLimit(10);
+		criteria.setOffset(0);
+
+		// to-many path: never whitelisted
+		criteria.addSortKey("roleActions.actionId", Sort.Direction.ASC);
+
+		try {
+			roleService.findByPaging(criteria);
+			fail("Expected PersistenceException due to unknown sort key");
+		}
+		catch (PersistenceException e) {
+
+			Throwable root = e.getCause();
+			while (root != null && root.getCause() != null) {
+				root = root.getCause();
+			}
+
+			assertTrue(
+					root instanceof IllegalArgumentException,
+					"Root cause should be IllegalArgumentException"
+			);
+
+			assertTrue(
+					root.getMessage().contains("Unsupported sort key"),
+					"Unexpected message: " + root.getMessage()
+			);
+		}
+	}
+
 	@Test
 	public void findRole_byActionWithRoleBackReference() throws Exception {
 		ActionCriteria actionCriteria = new ActionCriteria();
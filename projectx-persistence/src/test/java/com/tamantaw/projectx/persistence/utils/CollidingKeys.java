@@ -0,0 +1,31 @@
+package com.tamantaw.projectx.persistence.utils;
+
+/**
+ * Keys that hash to the same home slot, to force linear probing in the primitive collections.
+ */
+final class CollidingKeys {
+
+	private CollidingKeys() {
+	}
+
+	/**
+	 * @param tableSize power-of-two table size the collection starts with
+	 * @return {@code count} distinct non-zero keys sharing one home slot
+	 */
+	static long[] of(int count, int tableSize) {
+
+		int mask = tableSize - 1;
+		int home = LongHashing.mix(1L) & mask;
+
+		long[] keys = new long[count];
+		int found = 0;
+
+		for (long key = 1L; found < count; key++) {
+			if ((LongHashing.mix(key) & mask) == home) {
+				keys[found++] = key;
+			}
+		}
+
+		return keys;
+	}
+}
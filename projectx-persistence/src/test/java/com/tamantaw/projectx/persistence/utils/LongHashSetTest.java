@@ -0,0 +1,48 @@
+package com.tamantaw.projectx.persistence.utils;
+
+import org.testng.annotations.Test;
+
+import static org.testng.Assert.*;
+
+public class LongHashSetTest {
+
+	@Test
+	public void add_zeroKey_isStoredOnce() {
+		LongHashSet set = new LongHashSet();
+
+		assertTrue(set.add(0L));
+		assertFalse(set.add(0L));
+		assertEquals(set.size(), 1);
+	}
+
+	@Test
+	public void add_collidingKeys_areAllKept() {
+		// expected size 4 → table of 8 slots, no rehash for 3 keys
+		LongHashSet set = new LongHashSet(4);
+		long[] keys = CollidingKeys.of(3, LongHashing.tableSize(4));
+
+		for (long key : keys) {
+			assertTrue(set.add(key));
+		}
+		for (long key : keys) {
+			assertFalse(set.add(key));
+		}
+
+		assertEquals(set.size(), 3);
+	}
+
+	@Test
+	public void add_growsAcrossRehash() {
+		LongHashSet set = new LongHashSet(1);
+
+		for (long key = -5_000; key < 5_000; key++) {
+			assertTrue(set.add(key * 31));
+		}
+		for (long key = -5_000; key < 5_000; key++) {
+			assertFalse(set.add(key * 31), "lost after rehash: " + key * 31);
+		}
+
+		assertEquals(set.size(), 10_000);
+		assertFalse(set.isEmpty());
+	}
+}
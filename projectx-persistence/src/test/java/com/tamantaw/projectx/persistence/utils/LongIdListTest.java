@@ -0,0 +1,73 @@
+package com.tamantaw.projectx.persistence.utils;
+
+import org.testng.annotations.Test;
+
+import static org.testng.Assert.*;
+
+public class LongIdListTest {
+
+	@Test
+	public void add_growsFromZeroCapacity() {
+		LongIdList list = new LongIdList(0);
+
+		for (long id = 0; id < 1_000; id++) {
+			list.add(id * 3);
+		}
+
+		assertEquals(list.size(), 1_000);
+		assertEquals(list.get(0), 0L);
+		assertEquals(list.get(999), 2_997L);
+		assertEquals(list.toArray().length, 1_000);
+	}
+
+	@Test(expectedExceptions = IllegalArgumentException.class)
+	public void constructor_negativeCapacity_isRejected() {
+		new LongIdList(-1);
+	}
+
+	@Test(expectedExceptions = IndexOutOfBoundsException.class)
+	public void get_beyondSize_isRejected() {
+		LongIdList list = new LongIdList(16);
+		list.add(1L);
+
+		list.get(1); // within capacity, beyond size
+	}
+
+	@Test
+	public void toArray_range_copiesHalfOpenInterval() {
+		LongIdList list = listOf(10L, 11L, 12L, 13L, 14L);
+
+		assertEquals(list.toArray(1, 3), new long[]{11L, 12L});
+		assertEquals(list.toArray(0, 5), new long[]{10L, 11L, 12L, 13L, 14L});
+		assertEquals(list.toArray(0, 0).length, 0);
+		assertEquals(list.toArray(5, 5).length, 0);
+	}
+
+	@Test
+	public void toArray_range_rejectsOutOfBounds() {
+		LongIdList list = listOf(10L, 11L, 12L);
+
+		assertThrows(IndexOutOfBoundsException.class, () -> list.toArray(-1, 2));
+		assertThrows(IndexOutOfBoundsException.class, () -> list.toArray(2, 1));
+		// capacity is larger than size: still bounded by size
+		assertThrows(IndexOutOfBoundsException.class, () -> list.toArray(0, 4));
+	}
+
+	@Test
+	public void toArray_isACopy() {
+		LongIdList list = listOf(1L, 2L);
+
+		long[] copy = list.toArray();
+		copy[0] = 99L;
+
+		assertEquals(list.get(0), 1L);
+	}
+
+	private static LongIdList listOf(long... ids) {
+		LongIdList list = new LongIdList(16);
+		for (long id : ids) {
+			list.add(id);
+		}
+		return list;
+	}
+}
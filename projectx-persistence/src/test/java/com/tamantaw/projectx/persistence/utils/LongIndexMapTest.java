@@ -0,0 +1,63 @@
+package com.tamantaw.projectx.persistence.utils;
+
+import org.testng.annotations.Test;
+
+import static org.testng.Assert.assertEquals;
+
+public class LongIndexMapTest {
+
+	@Test
+	public void putIfAbsent_zeroKey_isStorable() {
+		LongIndexMap map = new LongIndexMap();
+
+		assertEquals(map.get(0L), -1);
+		assertEquals(map.putIfAbsent(0L, 5), -1);
+		assertEquals(map.putIfAbsent(0L, 7), 5);
+		assertEquals(map.get(0L), 5);
+		assertEquals(map.size(), 1);
+	}
+
+	@Test(expectedExceptions = IllegalArgumentException.class)
+	public void putIfAbsent_negativeValue_isRejected() {
+		new LongIndexMap().putIfAbsent(1L, -1);
+	}
+
+	@Test
+	public void get_collidingKeys_resolveThroughProbing() {
+		LongIndexMap map = new LongIndexMap(4);
+		long[] keys = CollidingKeys.of(3, LongHashing.tableSize(4));
+
+		for (int i = 0; i < keys.length; i++) {
+			assertEquals(map.putIfAbsent(keys[i], i), -1);
+		}
+		for (int i = 0; i < keys.length; i++) {
+			assertEquals(map.get(keys[i]), i);
+		}
+
+		assertEquals(map.get(keys[keys.length - 1] + 1), -1);
+	}
+
+	@Test
+	public void get_afterGrowthAcrossRehash() {
+		LongIndexMap map = new LongIndexMap(1);
+
+		for (int i = 0; i < 10_000; i++) {
+			map.putIfAbsent(i * 7L - 20_000, i);
+		}
+		for (int i = 0; i < 10_000; i++) {
+			assertEquals(map.get(i * 7L - 20_000), i);
+		}
+
+		assertEquals(map.size(), 10_000);
+	}
+
+	@Test
+	public void positionsOf_keepsFirstPosition() {
+		LongIndexMap positions = LongIndexMap.positionsOf(new long[]{5L, 3L, 5L, 0L});
+
+		assertEquals(positions.get(5L), 0);
+		assertEquals(positions.get(3L), 1);
+		assertEquals(positions.get(0L), 3);
+		assertEquals(positions.size(), 3);
+	}
+}
@@ -0,0 +1,92 @@
+package com.tamantaw.projectx.persistence.utils;
+
+import org.testng.annotations.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import static org.testng.Assert.*;
+
+public class LongObjectHashMapTest {
+
+	@Test
+	public void computeIfAbsent_zeroKey_isStorable() {
+		LongObjectHashMap<String> map = new LongObjectHashMap<>();
+
+		assertNull(map.get(0L));
+		assertEquals(map.computeIfAbsent(0L, key -> "zero"), "zero");
+		assertEquals(map.get(0L), "zero");
+		assertEquals(map.size(), 1);
+	}
+
+	@Test
+	public void computeIfAbsent_existingKey_reusesValue() {
+		LongObjectHashMap<List<String>> map = new LongObjectHashMap<>();
+
+		map.computeIfAbsent(7L, key -> new ArrayList<>()).add("a");
+		map.computeIfAbsent(7L, key -> {
+			throw new AssertionError("factory called for present key");
+		}).add("b");
+
+		assertEquals(map.get(7L), List.of("a", "b"));
+		assertEquals(map.size(), 1);
+	}
+
+	@Test(expectedExceptions = IllegalArgumentException.class)
+	public void computeIfAbsent_nullValue_isRejected() {
+		new LongObjectHashMap<String>().computeIfAbsent(1L, key -> null);
+	}
+
+	@Test
+	public void getOrDefault_returnsDefaultOnlyForAbsentKeys() {
+		LongObjectHashMap<String> map = new LongObjectHashMap<>();
+		map.computeIfAbsent(3L, key -> "three");
+
+		assertEquals(map.getOrDefault(3L, "none"), "three");
+		assertEquals(map.getOrDefault(4L, "none"), "none");
+		assertNull(map.getOrDefault(4L, null));
+	}
+
+	@Test
+	public void toMap_copiesEveryEntry() {
+		LongObjectHashMap<String> map = new LongObjectHashMap<>(1);
+		map.computeIfAbsent(0L, key -> "zero");
+		map.computeIfAbsent(-1L, key -> "minus one");
+		map.computeIfAbsent(42L, key -> "forty-two");
+
+		assertEquals(map.toMap(), Map.of(0L, "zero", -1L, "minus one", 42L, "forty-two"));
+		assertTrue(new LongObjectHashMap<String>().toMap().isEmpty());
+	}
+
+	@Test
+	public void get_collidingKeys_resolveThroughProbing() {
+		LongObjectHashMap<Long> map = new LongObjectHashMap<>(4);
+		long[] keys = CollidingKeys.of(3, LongHashing.tableSize(4));
+
+		for (long key : keys) {
+			map.computeIfAbsent(key, Long::valueOf);
+		}
+		for (long key : keys) {
+			assertEquals(map.get(key), Long.valueOf(key));
+		}
+
+		assertEquals(map.size(), 3);
+	}
+
+	@Test
+	public void get_afterGrowthPastInitialTable() {
+		// expected size 1 → table of 4 slots, doubled many times below
+		LongObjectHashMap<Long> map = new LongObjectHashMap<>(1);
+
+		for (long key = -5_000; key < 5_000; key++) {
+			map.computeIfAbsent(key * 13, Long::valueOf);
+		}
+		for (long key = -5_000; key < 5_000; key++) {
+			assertEquals(map.get(key * 13), Long.valueOf(key * 13));
+		}
+
+		assertEquals(map.size(), 10_000);
+		assertFalse(map.isEmpty());
+	}
+}